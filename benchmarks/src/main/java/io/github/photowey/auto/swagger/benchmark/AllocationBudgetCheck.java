@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.benchmark;
+
+
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * {@code AllocationBudgetCheck}
+ * Compiles a generated source tree in-process and fails when the processor allocates or retains
+ * more than the checked-in budget ({@code allocation-budget.properties}) per field or per compilation unit.
+ * Run by {@code mvn verify} of this module, in CI by the {@code allocation-budget} job.
+ * <pre>
+ * $ mvn -f benchmarks/pom.xml verify
+ * $ java -Xmx256m -cp benchmarks/target/benchmarks.jar io.github.photowey.auto.swagger.benchmark.AllocationBudgetCheck [classes] [fields]
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AllocationBudgetCheck {
+
+    private static final String BUDGET_RESOURCE = "allocation-budget.properties";
+
+    private static final String ALLOCATED_PER_FIELD = "allocated.bytes.per.field";
+    private static final String ALLOCATED_PER_UNIT = "allocated.bytes.per.unit";
+    private static final String RETAINED_PER_FIELD = "retained.bytes.per.field";
+
+    private static final int DEFAULT_CLASSES = 200;
+    private static final int DEFAULT_FIELDS = 50;
+    private static final int WARMUP_ITERATIONS = 3;
+
+    private AllocationBudgetCheck() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static void main(String[] args) throws IOException {
+        int classes = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CLASSES;
+        int fields = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FIELDS;
+
+        Properties budget = loadBudget();
+        List<JavaFileObject> sources = SourceTreeGenerator.generate(classes, fields);
+        InMemoryCompiler compiler = new InMemoryCompiler();
+
+        // Warm up: class loading and JIT allocations are not the builders' allocations
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            compiler.compile(sources, InMemoryCompiler.ProcessorMode.ENABLED);
+        }
+
+        MeasuringProcessor processor = new MeasuringProcessor();
+        compiler.compile(sources, InMemoryCompiler.ProcessorMode.ENABLED, processor);
+
+        long totalFields = (long) classes * fields;
+        boolean passed = check("allocated/field", processor.allocated() / totalFields, budget, ALLOCATED_PER_FIELD);
+        passed &= check("allocated/unit", processor.allocated() / classes, budget, ALLOCATED_PER_UNIT);
+        passed &= check("retained/field", processor.retained() / totalFields, budget, RETAINED_PER_FIELD);
+
+        System.out.printf("auto-swagger: %d classes x %d fields, %d rounds, allocated %d bytes, retained %d bytes (max round %d bytes)%n",
+                classes, fields, processor.rounds(), processor.allocated(), processor.retained(), processor.maxRoundRetained());
+
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static boolean check(String label, long actual, Properties budget, String key) {
+        long limit = Long.parseLong(budget.getProperty(key));
+        boolean passed = actual <= limit;
+        System.out.printf("auto-swagger: %-16s %8d bytes (budget %8d) %s%n", label, actual, limit, passed ? "OK" : "EXCEEDED");
+
+        return passed;
+    }
+
+    private static Properties loadBudget() throws IOException {
+        Properties budget = new Properties();
+        try (InputStream in = AllocationBudgetCheck.class.getClassLoader().getResourceAsStream(BUDGET_RESOURCE)) {
+            if (null == in) {
+                throw new IllegalStateException("Missing budget resource: " + BUDGET_RESOURCE);
+            }
+            budget.load(in);
+        }
+
+        return budget;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.benchmark;
+
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.processor.AutoSwaggerProcessor;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code InMemoryCompiler}
+ * Compiles sources through {@link JavaCompiler} with every output kept in memory.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class InMemoryCompiler {
+
+    private final JavaCompiler compiler;
+    private final StandardJavaFileManager standardFileManager;
+
+    public InMemoryCompiler() {
+        this.compiler = ToolProvider.getSystemJavaCompiler();
+        if (null == this.compiler) {
+            throw new IllegalStateException("No system Java compiler, run the benchmarks on a JDK");
+        }
+
+        this.standardFileManager = this.compiler.getStandardFileManager(null, null, null);
+    }
+
+    /**
+     * Compile the sources.
+     *
+     * @param sources the sources
+     * @param mode    how the processor takes part
+     * @param options extra javac options
+     * @return the total size of the generated class files, in bytes
+     */
+    public long compile(List<JavaFileObject> sources, ProcessorMode mode, String... options) {
+        return this.compile(sources, mode, new AutoSwaggerProcessor(), options);
+    }
+
+    /**
+     * Compile the sources with the given processor instance.
+     *
+     * @param sources   the sources
+     * @param mode      how the processor takes part
+     * @param processor the processor, ignored for {@link ProcessorMode#ABSENT}
+     * @param options   extra javac options
+     * @return the total size of the generated class files, in bytes
+     */
+    public long compile(List<JavaFileObject> sources, ProcessorMode mode, Processor processor, String... options) {
+        List<String> args = new ArrayList<>();
+        args.add("-classpath");
+        args.add(System.getProperty("java.class.path"));
+        args.add("-nowarn");
+        Collections.addAll(args, options);
+
+        if (ProcessorMode.ABSENT == mode) {
+            args.add("-proc:none");
+        } else {
+            args.add("-A" + AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY + "=" + (ProcessorMode.ENABLED == mode));
+        }
+
+        MemoryFileManager fileManager = new MemoryFileManager(this.standardFileManager);
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        JavaCompiler.CompilationTask task = this.compiler.getTask(null, fileManager, diagnostics, args, null, sources);
+        if (ProcessorMode.ABSENT != mode) {
+            task.setProcessors(Collections.singletonList(processor));
+        }
+
+        if (!task.call()) {
+            StringBuilder errors = new StringBuilder("Compilation failed:");
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                errors.append('\n').append(diagnostic);
+            }
+
+            throw new IllegalStateException(errors.toString());
+        }
+
+        return fileManager.bytes();
+    }
+
+    // ----------------------------------------------------------------
+
+    public enum ProcessorMode {
+        /**
+         * Proxies are translated into Swagger annotations.
+         */
+        ENABLED,
+        /**
+         * Proxies are stripped (strip mode).
+         */
+        DISABLED,
+        /**
+         * No annotation processing at all, the baseline.
+         */
+        ABSENT,
+        ;
+    }
+
+    private static class MemoryFileManager extends ForwardingJavaFileManager<JavaFileManager> {
+
+        private final List<ByteArrayOutputStream> outputs = new ArrayList<>();
+
+        MemoryFileManager(JavaFileManager fileManager) {
+            super(fileManager);
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, JavaFileObject.Kind kind, FileObject sibling) {
+            return new MemoryFileObject(className, kind);
+        }
+
+        @Override
+        public FileObject getFileForInput(Location location, String packageName, String relativeName) throws IOException {
+            FileObject input = super.getFileForInput(location, packageName, relativeName);
+            // JDK 8 javac does not accept null from a non-standard file manager
+            return null != input ? input : new MemoryFileObject(packageName + "." + relativeName, JavaFileObject.Kind.OTHER);
+        }
+
+        @Override
+        public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) {
+            return this.getJavaFileForOutput(location, packageName + "." + relativeName, JavaFileObject.Kind.OTHER, sibling);
+        }
+
+        long bytes() {
+            long bytes = 0;
+            for (ByteArrayOutputStream output : this.outputs) {
+                bytes += output.size();
+            }
+
+            return bytes;
+        }
+
+        private class MemoryFileObject extends SimpleJavaFileObject {
+
+            MemoryFileObject(String name, Kind kind) {
+                super(URI.create("mem:///" + name.replace('.', '/') + kind.extension), kind);
+            }
+
+            @Override
+            public OutputStream openOutputStream() {
+                ByteArrayOutputStream output = new ByteArrayOutputStream(1024);
+                outputs.add(output);
+
+                return output;
+            }
+
+            @Override
+            public InputStream openInputStream() throws IOException {
+                // Nothing is read back from memory, e.g. a resource looked up through the Filer
+                throw new FileNotFoundException(this.toUri().toString());
+            }
+        }
+    }
+}
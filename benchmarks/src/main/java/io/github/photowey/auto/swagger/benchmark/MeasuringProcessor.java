@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.benchmark;
+
+import io.github.photowey.auto.swagger.processor.AutoSwaggerProcessor;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Set;
+
+/**
+ * {@code MeasuringProcessor}
+ * An {@link AutoSwaggerProcessor} measuring the bytes allocated by the processing thread
+ * and the heap retained by every round.
+ * <p>
+ * Only the processor's own work is measured, javac parsing and attribution happen outside of {@link #process}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class MeasuringProcessor extends AutoSwaggerProcessor {
+
+    private final com.sun.management.ThreadMXBean threads;
+    private final MemoryMXBean memory;
+
+    private long allocated;
+    private long retained;
+    private long maxRoundRetained;
+    private int rounds;
+
+    public MeasuringProcessor() {
+        this.threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.memory = ManagementFactory.getMemoryMXBean();
+
+        if (!this.threads.isThreadAllocatedMemorySupported()) {
+            throw new IllegalStateException("Thread allocated memory is not supported by this JVM");
+        }
+        this.threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        long heapBefore = this.retainedHeap();
+        long threadId = Thread.currentThread().getId();
+
+        long before = this.threads.getThreadAllocatedBytes(threadId);
+        boolean claimed = super.process(annotations, env);
+        long after = this.threads.getThreadAllocatedBytes(threadId);
+
+        long roundRetained = Math.max(0, this.retainedHeap() - heapBefore);
+
+        this.rounds++;
+        this.allocated += after - before;
+        this.retained += roundRetained;
+        this.maxRoundRetained = Math.max(this.maxRoundRetained, roundRetained);
+
+        return claimed;
+    }
+
+    // ----------------------------------------------------------------
+
+    public long allocated() {
+        return this.allocated;
+    }
+
+    public long retained() {
+        return this.retained;
+    }
+
+    public long maxRoundRetained() {
+        return this.maxRoundRetained;
+    }
+
+    public int rounds() {
+        return this.rounds;
+    }
+
+    // ----------------------------------------------------------------
+
+    private long retainedHeap() {
+        // Two collections: the first one may only promote what the second one frees
+        System.gc();
+        System.gc();
+
+        return this.memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaFileObject;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ProcessorThroughputBenchmark}
+ * Compile throughput of a synthetic source tree with the processor enabled, disabled (strip mode) and absent.
+ * <p>
+ * The processor overhead per 1k fields is {@code (score(mode) - score(ABSENT)) * 1000 / (classes * fields)},
+ * the {@code fields} counter reports the fields compiled per invocation.
+ * <pre>
+ * $ mvn -DskipTests install                          # the processor
+ * $ mvn -f benchmarks/pom.xml package
+ * $ java -jar benchmarks/target/benchmarks.jar -rf json
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 10, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ProcessorThroughputBenchmark {
+
+    @Param({"100"})
+    private int classes;
+
+    @Param({"10", "100"})
+    private int fields;
+
+    @Param({"ENABLED", "DISABLED", "ABSENT"})
+    private InMemoryCompiler.ProcessorMode mode;
+
+    private InMemoryCompiler compiler;
+    private List<JavaFileObject> sources;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.compiler = new InMemoryCompiler();
+        this.sources = SourceTreeGenerator.generate(this.classes, this.fields);
+    }
+
+    @Benchmark
+    public long compile(Fields counter) {
+        counter.fields += (long) this.classes * this.fields;
+
+        return this.compiler.compile(this.sources, this.mode);
+    }
+
+    // ----------------------------------------------------------------
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Fields {
+
+        public long fields;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.fields = 0;
+        }
+    }
+}
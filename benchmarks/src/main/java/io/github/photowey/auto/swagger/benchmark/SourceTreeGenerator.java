@@ -0,0 +1,98 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.benchmark;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code SourceTreeGenerator}
+ * Generates a synthetic source tree: {@code classes} DTOs with {@code fields} {@code @AutoApiModelProperty} fields each.
+ * <p>
+ * Every fourth class is an {@code @AutoApiModel}, every tenth class also carries {@code @AutoApi}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class SourceTreeGenerator {
+
+    public static final String PACKAGE_NAME = "io.github.photowey.auto.swagger.benchmark.generated";
+
+    private SourceTreeGenerator() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static List<JavaFileObject> generate(int classes, int fields) {
+        List<JavaFileObject> sources = new ArrayList<>(classes);
+        for (int i = 0; i < classes; i++) {
+            String simpleName = "GeneratedDto" + i;
+            sources.add(new SourceFile(PACKAGE_NAME.replace('.', '/') + "/" + simpleName, generate(simpleName, i, fields)));
+        }
+
+        return sources;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String generate(String simpleName, int index, int fields) {
+        StringBuilder source = new StringBuilder(256 + fields * 160);
+        source.append("package ").append(PACKAGE_NAME).append(";\n\n")
+                .append("import io.github.photowey.auto.swagger.annotation.AutoApi;\n")
+                .append("import io.github.photowey.auto.swagger.annotation.AutoApiModel;\n")
+                .append("import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;\n\n");
+
+        if (index % 10 == 0) {
+            source.append("@AutoApi(tags = {\"tag-").append(index).append("\"}, value = \"").append(simpleName).append("\")\n");
+        }
+        if (index % 4 == 0) {
+            source.append("@AutoApiModel(value = \"").append(simpleName).append("\", description = \"Generated model\")\n");
+        }
+
+        source.append("public class ").append(simpleName).append(" {\n");
+        for (int j = 0; j < fields; j++) {
+            source.append("\n    @AutoApiModelProperty(value = \"Field ").append(j)
+                    .append("\", example = \"").append(j)
+                    .append("\", required = ").append(j % 2 == 0)
+                    .append(", position = ").append(j).append(")\n")
+                    .append("    private ").append(j % 3 == 0 ? "Long" : "String").append(" field").append(j).append(";\n");
+        }
+        source.append("}\n");
+
+        return source.toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class SourceFile extends SimpleJavaFileObject {
+
+        private final String content;
+
+        SourceFile(String path, String content) {
+            super(URI.create("string:///" + path + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.content;
+        }
+    }
+}
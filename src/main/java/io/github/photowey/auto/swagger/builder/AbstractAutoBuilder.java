@@ -15,16 +15,18 @@
  */
 package io.github.photowey.auto.swagger.builder;
 
-import com.sun.source.tree.CompilationUnitTree;
-import com.sun.source.tree.Tree;
-import com.sun.source.util.TreePath;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.ListBuffer;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
 import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoAnnotationMatcher;
+import io.github.photowey.auto.swagger.context.AutoQualifiedName;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationSchema;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
 
 import javax.lang.model.element.Element;
-import javax.lang.model.element.VariableElement;
+import javax.lang.model.element.TypeElement;
 
 /**
  * {@code AbstractAutoBuilder}
@@ -36,88 +38,128 @@ import javax.lang.model.element.VariableElement;
 public abstract class AbstractAutoBuilder implements AutoBuilder {
 
     protected final AutoContext context;
+    private TypeElement annotationTypeElement;
+    private int annotationTypeRound;
 
     public AbstractAutoBuilder(AutoContext context) {
         this.context = context;
     }
 
-    protected String determineTargetPackageName(String fullQualifiedName) {
-        return fullQualifiedName.substring(0, fullQualifiedName.lastIndexOf("."));
+    protected TypeElement annotationTypeElement() {
+        // Resolved once per round, see AutoContext#nextRound
+        if (null == this.annotationTypeElement || this.annotationTypeRound != this.context.round()) {
+            this.annotationTypeElement = this.context.elements().getTypeElement(this.annotationType().getName());
+            this.annotationTypeRound = this.context.round();
+        }
+
+        return this.annotationTypeElement;
     }
 
-    protected String determineTargetSimpleName(String fullQualifiedName) {
-        return fullQualifiedName.substring(fullQualifiedName.lastIndexOf(".") + 1);
+    protected AutoAnnotationSchema schema() {
+        return this.context.annotationReader().schema(this.annotationTypeElement());
     }
 
-    protected void handleVariableDeclareClassImportAdd(Element element, String fullQualifiedName) {
-        VariableElement variable = (VariableElement) element;
-        JCTree.JCClassDecl clazz = this.tryFindVariableDeclareClass(variable);
-        JCTree.JCCompilationUnit unit = (JCTree.JCCompilationUnit) this.context.trees().getPath(clazz.sym).getCompilationUnit();
+    protected AutoAnnotationValues read(Element element) {
+        return this.context.annotationReader().read(element, this.annotationTypeElement());
+    }
 
-        ListBuffer<JCTree> imports = new ListBuffer<>();
-        for (int i = 0; i < unit.defs.size(); i++) {
-            imports.append(unit.defs.get(i));
+    /**
+     * Import the type of the synthesized annotation, or refer to it fully qualified if its simple name is taken.
+     */
+    protected void handleImportAdd(AutoCompilationUnit unit, JCTree.JCAnnotation annotation, AutoQualifiedName qualifiedName) {
+        // Written once per unit at the end of the round.
+        if (!this.context.importLedger().record(unit.unit(), qualifiedName)) {
+            annotation.annotationType = this.context.qualified(qualifiedName);
         }
+    }
 
-        JCTree.JCIdent packageIdent = this.context.treeMaker()
-                .Ident(this.context.names().fromString(this.determineTargetPackageName(fullQualifiedName)));
-        JCTree.JCFieldAccess access = this.context.treeMaker()
-                .Select(packageIdent, this.context.names().fromString(this.determineTargetSimpleName(fullQualifiedName)));
-        JCTree.JCImport ipt = this.context.treeMaker().Import(access, false);
-        imports.append(ipt);
+    protected void handleAddAnnotation(JCTree.JCModifiers mods, JCTree.JCAnnotation annotation, Class<?> clazz) {
+        this.context.metrics().current().synthesized(annotation);
 
-        unit.defs = imports.toList();
+        ListBuffer<JCTree.JCAnnotation> includes = new ListBuffer<>();
+        includes.add(annotation);
+
+        this.removeAutoAnnotationIfNecessary(mods, includes, clazz);
+    }
+
+    /**
+     * Mark the declaration as processed by this builder, over every round of the compilation.
+     *
+     * @param declaration the class or field declaration
+     * @return {@code true} if it was not processed yet
+     */
+    protected boolean markProcessed(JCTree declaration) {
+        return this.context.processed().mark(this.annotationType(), declaration);
     }
 
-    protected JCTree.JCClassDecl tryFindVariableDeclareClass(VariableElement variable) {
-        TreePath treePath = this.context.trees().getPath(variable);
+    protected JCTree.JCVariableDecl toVariable(AutoCompilationUnit unit, Element element) {
+        JCTree.JCVariableDecl variable = unit.index().toVariable(element);
+        if (null != variable) {
+            return variable;
+        }
+
+        return this.context.toVariable(element);
+    }
 
-        CompilationUnitTree ut = treePath.getCompilationUnit();
+    protected JCTree.JCClassDecl toClass(AutoCompilationUnit unit, Element element) {
+        JCTree.JCClassDecl clazz = unit.index().toClass(element);
+        if (null != clazz) {
+            return clazz;
+        }
 
-        Tree tree = this.context.trees().getTree(variable);
-        if (tree instanceof JCTree.JCVariableDecl) {
-            JCTree.JCVariableDecl vd = (JCTree.JCVariableDecl) tree;
+        return (JCTree.JCClassDecl) this.context.trees().getTree(element);
+    }
 
-            TreePath classTreePath = this.context.trees().getPath(ut, vd);
-            while (classTreePath != null) {
-                Tree classTree = classTreePath.getLeaf();
-                if (classTree instanceof JCTree.JCClassDecl) {
-                    JCTree.JCClassDecl clazz = (JCTree.JCClassDecl) classTree;
-                    return clazz;
-                }
-                classTreePath = classTreePath.getParentPath();
-            }
+    protected JCTree.JCModifiers toModifiers(AutoCompilationUnit unit, Element element) {
+        if (element.getKind().isField()) {
+            return this.toVariable(unit, element).mods;
         }
 
-        return null;
+        return this.toClass(unit, element).mods;
+    }
+
+    /**
+     * Determine whether the declaration is already annotated with the given type,
+     * written either as its simple name or fully qualified.
+     */
+    protected boolean determineIsAnnotated(JCTree.JCModifiers mods, AutoAnnotationMatcher matcher) {
+        return matcher.matchesAny(mods);
     }
 
     // ----------------------------------------------------------------
 
-    public void doRemoveIfNecessary(Element element, Class<?> clazz) {
-        JCTree.JCVariableDecl variable = this.context.toVariable(element);
+    public void doRemoveIfNecessary(AutoCompilationUnit unit, Element element, Class<?> clazz) {
+        JCTree.JCModifiers mods = this.toModifiers(unit, element);
         ListBuffer<JCTree.JCAnnotation> includes = new ListBuffer<>();
 
-        // Remove: @AutoApiModelProperty
-        this.removeAutoAnnotationIfNecessary(variable, includes, clazz);
+        // Remove: @AutoApi | @AutoApiModel | @AutoApiModelProperty
+        this.removeAutoAnnotationIfNecessary(mods, includes, clazz);
     }
 
-    protected void removeAutoAnnotationIfNecessary(JCTree.JCVariableDecl variable, ListBuffer<JCTree.JCAnnotation> includes, Class<?> clazz) {
-        List<JCTree.JCAnnotation> annotations = variable.mods.annotations;
+    protected void removeAutoAnnotationIfNecessary(JCTree.JCModifiers mods, ListBuffer<JCTree.JCAnnotation> includes, Class<?> clazz) {
+        if (includes.isEmpty() && !this.context.matcher(clazz.getName()).matchesAny(mods)) {
+            // Nothing to add, nothing to remove: keep the list as is
+            return;
+        }
+
+        List<JCTree.JCAnnotation> annotations = mods.annotations;
         for (JCTree.JCAnnotation bro : annotations) {
             if (this.determineIsNotMyself(bro, clazz)) {
                 includes.add(bro);
             }
         }
 
-        variable.mods.annotations = includes.toList();
+        mods.annotations = includes.toList();
     }
 
     protected boolean determineIsNotMyself(JCTree.JCAnnotation annotation, Class<?> clazz) {
         return !this.determineIsMyself(annotation, clazz);
     }
 
+    /**
+     * Determine whether the annotation is the given proxy: by type symbol once attributed, by interned names otherwise.
+     */
     protected boolean determineIsMyself(JCTree.JCAnnotation annotation, Class<?> clazz) {
-        return annotation.getAnnotationType().toString().equals(clazz.getSimpleName());
+        return this.context.matcher(clazz.getName()).matches(annotation);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.builder;
+
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Name;
+import io.github.photowey.auto.swagger.context.AutoAnnotationMatcher;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoQualifiedName;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationSchema;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
+import io.github.photowey.auto.swagger.reader.AutoValueSnapshot;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code AutoAnnotationMapper}
+ * Table-driven translation of a proxy annotation into its Swagger annotation.
+ * <p>
+ * Every attribute of the proxy is a row holding its interned target {@link Name} and the snapshot of its default value,
+ * explicitly set values equal to the default are left out so the emitted annotation stays minimal.
+ * <p>
+ * {@link #slots(Object[])} only compares snapshots and is safe to call from any thread,
+ * building the annotation tree is not.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationMapper {
+
+    private final AutoContext context;
+    private final AutoValueTranslator translator;
+    private final AutoQualifiedName target;
+    private final AutoAnnotationMatcher matcher;
+
+    private final Name[] names;
+    private final Object[] defaults;
+
+    public AutoAnnotationMapper(AutoContext context, AutoAnnotationSchema schema, AutoQualifiedName target) {
+        this.context = context;
+        this.translator = context.valueTranslator();
+        this.target = target;
+        this.matcher = context.matcher(target.fullQualifiedName());
+
+        // Proxy attributes are copies of the Swagger ones: same names, same defaults
+        List<ExecutableElement> methods = ElementFilter.methodsIn(schema.annotationType().getEnclosedElements());
+        this.names = new Name[schema.size()];
+        this.defaults = new Object[schema.size()];
+        for (ExecutableElement method : methods) {
+            int slot = schema.slot(method);
+            this.names[slot] = context.nameTable().identifier(schema.attribute(slot));
+            this.defaults[slot] = AutoValueSnapshot.of(method.getDefaultValue(), context.elements());
+        }
+    }
+
+    public AutoQualifiedName target() {
+        return this.target;
+    }
+
+    /**
+     * The matcher of the target annotation, to detect hand-written usages.
+     */
+    public AutoAnnotationMatcher matcher() {
+        return this.matcher;
+    }
+
+    public JCTree.JCAnnotation map(AutoAnnotationValues values) {
+        return this.map(values, this.slots(values.snapshot(this.context.elements())));
+    }
+
+    /**
+     * The target annotation with the given attributes, as planned by {@link #slots(Object[])}.
+     */
+    public JCTree.JCAnnotation map(AutoAnnotationValues values, int[] slots) {
+        return this.context.treeMaker().Annotation(
+                this.context.treeMaker().Ident(this.target.simpleName()),
+                this.arguments(values, slots)
+        );
+    }
+
+    /**
+     * The target annotation without any attribute.
+     */
+    public JCTree.JCAnnotation map() {
+        return this.context.treeMaker().Annotation(
+                this.context.treeMaker().Ident(this.target.simpleName()),
+                com.sun.tools.javac.util.List.nil()
+        );
+    }
+
+    /**
+     * Determine the slots to emit: explicitly set and not equal to the default.
+     *
+     * @param snapshot the {@link AutoAnnotationValues#snapshot} of the proxy usage
+     * @return the slots, in declaration order
+     */
+    public int[] slots(Object[] snapshot) {
+        int[] slots = new int[snapshot.length];
+        int size = 0;
+        for (int slot = 0; slot < snapshot.length; slot++) {
+            if (null != snapshot[slot] && !snapshot[slot].equals(this.defaults[slot])) {
+                slots[size++] = slot;
+            }
+        }
+
+        return Arrays.copyOf(slots, size);
+    }
+
+    public com.sun.tools.javac.util.List<JCTree.JCExpression> arguments(AutoAnnotationValues values, int[] slots) {
+        ListBuffer<JCTree.JCExpression> args = new ListBuffer<>();
+        for (int slot : slots) {
+            args.append(this.context.assign(this.names[slot], this.translator.translate(values.get(slot))));
+        }
+
+        return args.toList();
+    }
+}
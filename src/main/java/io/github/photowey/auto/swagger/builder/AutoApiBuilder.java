@@ -15,10 +15,14 @@
  */
 package io.github.photowey.auto.swagger.builder;
 
+import com.sun.tools.javac.tree.JCTree;
 import io.github.photowey.auto.swagger.annotation.AutoApi;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
 import io.github.photowey.auto.swagger.context.AutoContext;
 
 import javax.lang.model.element.Element;
+import java.lang.annotation.Annotation;
 
 /**
  * {@code AutoApiBuilder}
@@ -29,18 +33,34 @@ import javax.lang.model.element.Element;
  */
 public class AutoApiBuilder extends AbstractAutoBuilder {
 
+    private final AutoAnnotationMapper mapper;
+
     public AutoApiBuilder(AutoContext context) {
         super(context);
+
+        this.mapper = new AutoAnnotationMapper(context, this.schema(), context.nameTable().qualified(AutoConstants.SWAGGER_API_FULL_QUALIFIED_NAME));
     }
 
     @Override
-    public void build(Element element) {
-
+    public Class<? extends Annotation> annotationType() {
+        return AutoApi.class;
     }
 
     @Override
-    public void remove(Element element) {
-        // Remove: @AutoApi
-        super.doRemoveIfNecessary(element, AutoApi.class);
+    public void build(AutoCompilationUnit unit, Element element) {
+        JCTree.JCClassDecl clazz = this.toClass(unit, element);
+        if (!this.markProcessed(clazz)) {
+            return;
+        }
+        if (this.determineIsAnnotated(clazz.mods, this.mapper.matcher())) {
+            // Keep the hand-written @Api
+            super.doRemoveIfNecessary(unit, element, AutoApi.class);
+
+            return;
+        }
+
+        JCTree.JCAnnotation annotation = this.mapper.map(this.read(element));
+        this.handleImportAdd(unit, annotation, this.mapper.target());
+        this.handleAddAnnotation(clazz.mods, annotation, AutoApi.class);
     }
-}
\ No newline at end of file
+}
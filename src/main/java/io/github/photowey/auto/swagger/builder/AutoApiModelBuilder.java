@@ -15,13 +15,19 @@
  */
 package io.github.photowey.auto.swagger.builder;
 
+import com.sun.tools.javac.code.Flags;
+import com.sun.tools.javac.tree.JCTree;
 import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
 import io.github.photowey.auto.swagger.context.AutoContext;
 
 import javax.lang.model.element.Element;
+import java.lang.annotation.Annotation;
 
 /**
  * {@code AutoApiModelBuilder}
+ * Adds {@code @ApiModel} to the class and, in the same pass, {@code @ApiModelProperty} to every non-static field of it.
  *
  * @author photowey
  * @date 2024/03/24
@@ -29,18 +35,60 @@ import javax.lang.model.element.Element;
  */
 public class AutoApiModelBuilder extends AbstractAutoBuilder {
 
-    public AutoApiModelBuilder(AutoContext context) {
+    private final AutoAnnotationMapper mapper;
+    private final AutoApiModelPropertyBuilder apiModelPropertyBuilder;
+
+    public AutoApiModelBuilder(AutoContext context, AutoApiModelPropertyBuilder apiModelPropertyBuilder) {
         super(context);
+
+        this.mapper = new AutoAnnotationMapper(context, this.schema(), context.nameTable().qualified(AutoConstants.SWAGGER_API_MODEL_FULL_QUALIFIED_NAME));
+        this.apiModelPropertyBuilder = apiModelPropertyBuilder;
     }
 
     @Override
-    public void build(Element element) {
-
+    public Class<? extends Annotation> annotationType() {
+        return AutoApiModel.class;
     }
 
     @Override
-    public void remove(Element element) {
-        // Remove: @AutoApiModel
-        super.doRemoveIfNecessary(element, AutoApiModel.class);
+    public void build(AutoCompilationUnit unit, Element element) {
+        JCTree.JCClassDecl clazz = this.toClass(unit, element);
+        if (!this.markProcessed(clazz)) {
+            return;
+        }
+        if (this.determineIsAnnotated(clazz.mods, this.mapper.matcher())) {
+            // Keep the hand-written @ApiModel
+            super.doRemoveIfNecessary(unit, element, AutoApiModel.class);
+        } else {
+            JCTree.JCAnnotation annotation = this.mapper.map(this.read(element));
+            this.handleImportAdd(unit, annotation, this.mapper.target());
+            this.handleAddAnnotation(clazz.mods, annotation, AutoApiModel.class);
+        }
+
+        this.handleFields(unit, clazz);
+    }
+
+    // ----------------------------------------------------------------
+
+    private void handleFields(AutoCompilationUnit unit, JCTree.JCClassDecl clazz) {
+        for (JCTree def : clazz.defs) {
+            if (!(def instanceof JCTree.JCVariableDecl)) {
+                continue;
+            }
+
+            JCTree.JCVariableDecl variable = (JCTree.JCVariableDecl) def;
+            if (!this.determineIsStatic(variable)) {
+                this.apiModelPropertyBuilder.buildField(unit, variable);
+            }
+        }
+    }
+
+    /**
+     * The symbol flags: interface fields are implicitly static, their trees carry no modifier.
+     */
+    private boolean determineIsStatic(JCTree.JCVariableDecl variable) {
+        long flags = null != variable.sym ? variable.sym.flags() : variable.mods.flags;
+
+        return (flags & Flags.STATIC) != 0;
     }
-}
\ No newline at end of file
+}
@@ -16,16 +16,28 @@
 package io.github.photowey.auto.swagger.builder;
 
 import com.sun.tools.javac.tree.JCTree;
-import com.sun.tools.javac.util.List;
 import com.sun.tools.javac.util.ListBuffer;
-import com.sun.tools.javac.util.Name;
 import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
 import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoQualifiedName;
+import io.github.photowey.auto.swagger.plan.AutoAnnotationPlan;
+import io.github.photowey.auto.swagger.plan.AutoAnnotationPlanner;
+import io.github.photowey.auto.swagger.plan.AutoFieldCandidate;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
 
 import javax.lang.model.element.Element;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * {@code AutoApiModelPropertyBuilder}
+ * Synthesizes {@code @ApiModelProperty} in two phases:
+ * |- {@link #build}: copy the proxy values out of javac into {@link AutoFieldCandidate}s
+ * |- {@link #apply}: analyse the candidates into {@link AutoAnnotationPlan}s,
+ * then apply the plans to the trees on the javac thread
  *
  * @author photowey
  * @date 2024/03/24
@@ -33,46 +45,86 @@ import javax.lang.model.element.Element;
  */
 public class AutoApiModelPropertyBuilder extends AbstractAutoBuilder {
 
-    private static final String API_MODEL_PROPERTY_FULL_QUALIFIED_NAME = "io.swagger.annotations.ApiModelProperty";
-    private static final String API_MODEL_PROPERTY_FULL_SIMPLE_NAME = "ApiModelProperty";
+    private final AutoAnnotationMapper mapper;
+    private final AutoAnnotationPlanner planner;
+    private List<AutoFieldCandidate> candidates = new ArrayList<>();
 
     public AutoApiModelPropertyBuilder(AutoContext context) {
         super(context);
+
+        AutoQualifiedName apiModelProperty = context.nameTable().qualified(AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME);
+        this.mapper = new AutoAnnotationMapper(context, this.schema(), apiModelProperty);
+        this.planner = new AutoAnnotationPlanner(context, this.mapper);
     }
 
     @Override
-    public void build(Element element) {
-        this.handleAddAnnotation(element);
-        this.handleVariableDeclareClassImportAdd(element, API_MODEL_PROPERTY_FULL_QUALIFIED_NAME);
+    public Class<? extends Annotation> annotationType() {
+        return AutoApiModelProperty.class;
     }
 
     @Override
-    public void remove(Element element) {
-        // Remove: @AutoApiModelProperty
-        super.doRemoveIfNecessary(element, AutoApiModelProperty.class);
+    public void build(AutoCompilationUnit unit, Element element) {
+        JCTree.JCVariableDecl variable = this.toVariable(unit, element);
+        if (this.markProcessed(variable)) {
+            this.handleCandidateAdd(unit, variable, element);
+        }
+    }
+
+    /**
+     * Build a field of an {@code @AutoApiModel} class, annotated with {@code @AutoApiModelProperty} or not.
+     *
+     * @param unit     the compilation unit
+     * @param variable the field declaration
+     */
+    public void buildField(AutoCompilationUnit unit, JCTree.JCVariableDecl variable) {
+        Element element = variable.sym;
+        if (null == element || !this.markProcessed(variable)) {
+            return;
+        }
+
+        this.context.metrics().current().visited();
+        this.handleCandidateAdd(unit, variable, element);
     }
 
-    private void handleAddAnnotation(Element element) {
-        JCTree.JCVariableDecl variable = this.context.toVariable(element);
-        AutoApiModelProperty auto = element.getAnnotation(AutoApiModelProperty.class);
+    @Override
+    public void apply() {
+        List<AutoFieldCandidate> candidates = this.candidates;
+        this.candidates = new ArrayList<>();
+
+        for (AutoAnnotationPlan plan : this.planner.plan(candidates)) {
+            this.handleApply(plan);
+        }
+    }
 
-        Name vn = this.context.fromString("value");
-        JCTree.JCExpression vv = this.context.literal(auto.value());
+    // ----------------------------------------------------------------
 
-        Name en = this.context.fromString("example");
-        JCTree.JCExpression ev = this.context.literal(auto.example());
+    private void handleCandidateAdd(AutoCompilationUnit unit, JCTree.JCVariableDecl variable, Element element) {
+        AutoAnnotationValues values = this.read(element);
+        Object[] snapshot = null != values ? values.snapshot(this.context.elements()) : null;
 
-        JCTree.JCExpression valueExpr = this.context.assign(vn, vv);
-        JCTree.JCExpression exampleExpr = this.context.assign(en, ev);
+        this.candidates.add(new AutoFieldCandidate(unit, variable, values, snapshot));
+    }
 
-        JCTree.JCAnnotation annotation = this.context.treeMaker().Annotation(
-                this.context.treeMaker().Ident(this.context.fromString(API_MODEL_PROPERTY_FULL_SIMPLE_NAME)),
-                List.of(valueExpr, exampleExpr)
-        );
+    private void handleApply(AutoAnnotationPlan plan) {
+        AutoFieldCandidate candidate = plan.candidate();
+        JCTree.JCModifiers mods = candidate.variable().mods;
 
-        ListBuffer<JCTree.JCAnnotation> includes = new ListBuffer<>();
-        includes.add(annotation);
+        JCTree.JCAnnotation annotation;
+        switch (plan.action()) {
+            case MAP:
+                annotation = this.mapper.map(candidate.values(), plan.slots());
+                break;
+            case BARE:
+                annotation = this.mapper.map();
+                break;
+            case KEEP:
+                this.removeAutoAnnotationIfNecessary(mods, new ListBuffer<>(), AutoApiModelProperty.class);
+                return;
+            default:
+                return;
+        }
 
-        this.removeAutoAnnotationIfNecessary(variable, includes, AutoApiModelProperty.class);
+        this.handleImportAdd(candidate.unit(), annotation, this.mapper.target());
+        this.handleAddAnnotation(mods, annotation, AutoApiModelProperty.class);
     }
-}
\ No newline at end of file
+}
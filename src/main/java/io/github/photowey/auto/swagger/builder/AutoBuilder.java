@@ -15,7 +15,10 @@
  */
 package io.github.photowey.auto.swagger.builder;
 
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
+
 import javax.lang.model.element.Element;
+import java.lang.annotation.Annotation;
 
 /**
  * {@code AutoBuilder}
@@ -26,7 +29,18 @@ import javax.lang.model.element.Element;
  */
 public interface AutoBuilder extends Builder {
 
-    void build(Element element);
+    /**
+     * The proxy annotation handled by this builder.
+     *
+     * @return the proxy annotation type.
+     */
+    Class<? extends Annotation> annotationType();
+
+    void build(AutoCompilationUnit unit, Element element);
 
-    void remove(Element element);
+    /**
+     * Apply the work deferred by {@link #build}, called once per round after every builder has built.
+     */
+    default void apply() {
+    }
 }
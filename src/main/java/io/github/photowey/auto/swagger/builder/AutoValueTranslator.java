@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.builder;
+
+import com.sun.tools.javac.code.Type;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Name;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoQualifiedName;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code AutoValueTranslator}
+ * Translates proxy annotation values into the trees of their Swagger counterparts.
+ * <p>
+ * Nested annotations and enum constants are rewritten to the {@code io.swagger.annotations} types and
+ * emitted fully qualified, {@code Class} values are emitted as class literals.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoValueTranslator {
+
+    private final AutoContext context;
+    private final Map<TypeElement, AutoQualifiedName> targets = new IdentityHashMap<>();
+
+    public AutoValueTranslator(AutoContext context) {
+        this.context = context;
+    }
+
+    public JCTree.JCExpression translate(AnnotationValue value) {
+        Object target = value.getValue();
+
+        if (target instanceof List) {
+            ListBuffer<JCTree.JCExpression> elements = new ListBuffer<>();
+            for (Object element : (List<?>) target) {
+                elements.append(this.translate((AnnotationValue) element));
+            }
+
+            return this.context.treeMaker().NewArray(null, com.sun.tools.javac.util.List.nil(), elements.toList());
+        }
+        if (target instanceof AnnotationMirror) {
+            return this.translate((AnnotationMirror) target);
+        }
+        if (target instanceof VariableElement) {
+            VariableElement constant = (VariableElement) target;
+            AutoQualifiedName enumType = this.determineTargetType((TypeElement) constant.getEnclosingElement());
+
+            return this.context.treeMaker().Select(this.context.qualified(enumType), (Name) constant.getSimpleName());
+        }
+        if (target instanceof TypeMirror) {
+            return this.context.treeMaker().Select(this.context.treeMaker().Type((Type) target), this.context.names()._class);
+        }
+
+        return this.context.literal(target);
+    }
+
+    /**
+     * Nested annotations keep every member written by the user, required members included.
+     */
+    public JCTree.JCAnnotation translate(AnnotationMirror mirror) {
+        AutoQualifiedName annotationType = this.determineTargetType((TypeElement) mirror.getAnnotationType().asElement());
+
+        ListBuffer<JCTree.JCExpression> args = new ListBuffer<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            args.append(this.context.assign((Name) entry.getKey().getSimpleName(), this.translate(entry.getValue())));
+        }
+
+        return this.context.treeMaker().Annotation(this.context.qualified(annotationType), args.toList());
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoQualifiedName determineTargetType(TypeElement proxy) {
+        return this.targets.computeIfAbsent(proxy, (x) -> this.context.nameTable().qualified(
+                AutoConstants.determineSwaggerTypeName(x.getQualifiedName().toString())));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.compat;
+
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * {@code AutoJavacCompat}
+ * Access to the javac internals from JDK 8 through JDK 21+.
+ * <p>
+ * |- JDK 9+: the {@code jdk.compiler} packages are opened to the processor once, before any internal class is touched
+ * |- the reflective entry points (wrapped processing environments, signatures that changed across releases)
+ * are resolved once into cached {@link MethodHandle}s, nothing is looked up per element
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoJavacCompat {
+
+    private static final String[] JDK_COMPILER_PACKAGES = {
+            "com.sun.tools.javac.api",
+            "com.sun.tools.javac.code",
+            "com.sun.tools.javac.comp",
+            "com.sun.tools.javac.file",
+            "com.sun.tools.javac.main",
+            "com.sun.tools.javac.model",
+            "com.sun.tools.javac.parser",
+            "com.sun.tools.javac.processing",
+            "com.sun.tools.javac.tree",
+            "com.sun.tools.javac.util",
+    };
+
+    private static final String DELEGATE_FIELD = "delegate";
+
+    private static boolean opened;
+
+    /**
+     * The getter of the {@code delegate} field of wrapped processing environments (Gradle, IDEs), per wrapper class.
+     */
+    private static final ClassValue<MethodHandle> DELEGATES = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            return determineDelegateGetter(type);
+        }
+    };
+
+    private AutoJavacCompat() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Open the {@code jdk.compiler} packages to the module of the processor, a no-op on JDK 8 and once opened.
+     */
+    public static synchronized void openJdkCompiler() {
+        if (opened || determineJavaVersion() < 9) {
+            opened = true;
+            return;
+        }
+
+        try {
+            Class<?> moduleClass = Class.forName("java.lang.Module");
+            Method getModule = Class.class.getMethod("getModule");
+            Object jdkCompiler = getModule.invoke(Class.forName("com.sun.tools.javac.processing.JavacProcessingEnvironment"));
+            Object processor = getModule.invoke(AutoJavacCompat.class);
+
+            Method implAddOpens = moduleClass.getDeclaredMethod("implAddOpens", String.class, moduleClass);
+            AutoUnsafe.setAccessible(implAddOpens);
+            for (String pkg : JDK_COMPILER_PACKAGES) {
+                implAddOpens.invoke(jdkCompiler, pkg, processor);
+            }
+
+            opened = true;
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to open the jdk.compiler packages, run javac with --add-opens jdk.compiler/com.sun.tools.javac.*=ALL-UNNAMED", e);
+        }
+    }
+
+    /**
+     * Gradle (incremental processing) and some IDEs hand out a wrapped {@link ProcessingEnvironment},
+     * the javac one is kept in their {@code delegate} field.
+     */
+    public static JavacProcessingEnvironment unwrap(ProcessingEnvironment env) {
+        ProcessingEnvironment target = env;
+        while (!(target instanceof JavacProcessingEnvironment)) {
+            if (null == target) {
+                throw new IllegalStateException("Unsupported processing environment: " + env.getClass().getName());
+            }
+
+            try {
+                // invokeExact: the call site type must be (Object)Object, cast afterwards
+                Object delegate = DELEGATES.get(target.getClass()).invokeExact((Object) target);
+                target = (ProcessingEnvironment) delegate;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Unable to unwrap the processing environment: " + target.getClass().getName(), e);
+            }
+        }
+
+        return (JavacProcessingEnvironment) target;
+    }
+
+    /**
+     * {@code TreeMaker#Import}: its first parameter is a {@code JCTree} up to JDK 20, a {@code JCFieldAccess} since JDK 21.
+     */
+    public static JCTree.JCImport newImport(TreeMaker treeMaker, JCTree qualid, boolean staticImport) {
+        try {
+            return (JCTree.JCImport) Handles.IMPORT.invokeExact(treeMaker, qualid, staticImport);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Unable to create the import of: " + qualid, e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    static int determineJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+
+        return Integer.parseInt(version);
+    }
+
+    private static MethodHandle determineDelegateGetter(Class<?> type) {
+        for (Class<?> clazz = type; null != clazz; clazz = clazz.getSuperclass()) {
+            try {
+                Field delegate = clazz.getDeclaredField(DELEGATE_FIELD);
+                delegate.setAccessible(true);
+
+                return MethodHandles.lookup().unreflectGetter(delegate).asType(MethodType.methodType(Object.class, Object.class));
+            } catch (NoSuchFieldException ignored) {
+                // Try the super class
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Unable to access the delegate of: " + type.getName(), e);
+            }
+        }
+
+        // Not a wrapper: unwrap() then reports the unsupported environment
+        return MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+    }
+
+    /**
+     * Resolved on first use, once the {@code jdk.compiler} packages are open.
+     */
+    private static class Handles {
+
+        private static final MethodHandle IMPORT = determineImport();
+
+        private static MethodHandle determineImport() {
+            for (Method method : TreeMaker.class.getMethods()) {
+                Class<?>[] parameters = method.getParameterTypes();
+                if ("Import".equals(method.getName()) && 2 == parameters.length
+                        && JCTree.class.isAssignableFrom(parameters[0]) && boolean.class == parameters[1]) {
+                    try {
+                        return MethodHandles.lookup().unreflect(method)
+                                .asType(MethodType.methodType(JCTree.JCImport.class, TreeMaker.class, JCTree.class, boolean.class));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Unable to access TreeMaker#Import", e);
+                    }
+                }
+            }
+
+            throw new IllegalStateException("No TreeMaker#Import(JCTree, boolean) in this javac");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.compat;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+
+/**
+ * {@code AutoUnsafe}
+ * Makes a JDK-internal method accessible on JDK 9+, where {@link AccessibleObject#setAccessible} refuses it.
+ * <p>
+ * The {@code override} flag of {@link AccessibleObject} is written through {@code sun.misc.Unsafe},
+ * its offset is taken from {@link AccessibleObjectLayout}, which mirrors the fields of {@link AccessibleObject}
+ * ({@code objectFieldOffset} rejects the fields of the reflection classes themselves).
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+final class AutoUnsafe {
+
+    private AutoUnsafe() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    static void setAccessible(AccessibleObject target) throws ReflectiveOperationException {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        Object unsafe = theUnsafe.get(null);
+
+        long offset = (Long) unsafeClass.getMethod("objectFieldOffset", Field.class)
+                .invoke(unsafe, AccessibleObjectLayout.class.getDeclaredField("override"));
+        unsafeClass.getMethod("putBoolean", Object.class, long.class, boolean.class).invoke(unsafe, target, offset, true);
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("unused")
+    private static class AccessibleObjectLayout {
+        boolean override;
+        volatile Object accessCheckCache;
+    }
+}
@@ -33,8 +33,125 @@ public interface AutoConstants {
     String AUTO_SWAGGER_ANNOTATION_CONFIG_VALUE_ENABLED = "true";
     String AUTO_SWAGGER_ANNOTATION_CONFIG_VALUE_NOT_ENABLED = "false";
 
+    /**
+     * AutoSwagger package/class filters, comma-separated globs matched against qualified class names
+     * |- {@code *} matches within a name segment, {@code **} matches across segments
+     * |- io.github.photowey.auto.swagger.annotation.includes=com.example.**.dto.*
+     * |- io.github.photowey.auto.swagger.annotation.excludes=com.example.proto.**
+     */
+    String AUTO_SWAGGER_ANNOTATION_INCLUDES_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.includes";
+    String AUTO_SWAGGER_ANNOTATION_EXCLUDES_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.excludes";
+
+    /**
+     * AutoSwagger compile-time metrics
+     * |- io.github.photowey.auto.swagger.annotation.metrics=true: write META-INF/auto-swagger/metrics.json
+     * |- io.github.photowey.auto.swagger.annotation.metrics.summary=true: print a one-line summary
+     */
+    String AUTO_SWAGGER_ANNOTATION_METRICS_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.metrics";
+    String AUTO_SWAGGER_ANNOTATION_METRICS_SUMMARY_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.metrics.summary";
+    String AUTO_SWAGGER_METRICS_RESOURCE = "META-INF/auto-swagger/metrics.json";
+
+    /**
+     * AutoSwagger build-time Swagger 2.0 metadata
+     * |- io.github.photowey.auto.swagger.annotation.definitions=true: write META-INF/auto-swagger/definitions.json
+     * |- io.github.photowey.auto.swagger.annotation.paths=true: write META-INF/auto-swagger/paths.json (and the definitions)
+     */
+    String AUTO_SWAGGER_ANNOTATION_DEFINITIONS_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.definitions";
+    String AUTO_SWAGGER_DEFINITIONS_RESOURCE = "META-INF/auto-swagger/definitions.json";
+    String AUTO_SWAGGER_ANNOTATION_PATHS_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.paths";
+    String AUTO_SWAGGER_PATHS_RESOURCE = "META-INF/auto-swagger/paths.json";
+
+    /**
+     * AutoSwagger spec shards, written along with the paths
+     * |- io.github.photowey.auto.swagger.annotation.shard=tag: one shard per @AutoApi tag
+     * |- io.github.photowey.auto.swagger.annotation.shard=package: one shard per controller package
+     */
+    String AUTO_SWAGGER_ANNOTATION_SHARD_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.shard";
+    String AUTO_SWAGGER_ANNOTATION_SHARD_TAG = "tag";
+    String AUTO_SWAGGER_ANNOTATION_SHARD_PACKAGE = "package";
+    String AUTO_SWAGGER_SHARDS_MANIFEST_RESOURCE = "META-INF/auto-swagger/shards.properties";
+    String AUTO_SWAGGER_SHARDS_DIRECTORY = "META-INF/auto-swagger/shards/";
+    String AUTO_SWAGGER_SHARDS_LOCATION = "shards/";
+
+    /**
+     * AutoSwagger generated model registry
+     * |- io.github.photowey.auto.swagger.annotation.registry=true: generate AutoSwaggerRegistry (and the springfox plugin)
+     * |- io.github.photowey.auto.swagger.annotation.registry.package: its package, defaults to the common package of the models
+     */
+    String AUTO_SWAGGER_ANNOTATION_REGISTRY_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.registry";
+    String AUTO_SWAGGER_ANNOTATION_REGISTRY_PACKAGE_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.registry.package";
+    String AUTO_SWAGGER_REGISTRY_DEFAULT_PACKAGE = "io.github.photowey.auto.swagger.registry";
+
+    /**
+     * AutoSwagger processing mode
+     * |- io.github.photowey.auto.swagger.annotation.mode=tree: rewrite the proxies into Swagger annotations in the javac trees
+     * |- io.github.photowey.auto.swagger.annotation.mode=source: leave the trees untouched, generate XxxSwaggerMixin sources
+     */
+    String AUTO_SWAGGER_ANNOTATION_MODE_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.mode";
+    String AUTO_SWAGGER_ANNOTATION_MODE_TREE = "tree";
+    String AUTO_SWAGGER_ANNOTATION_MODE_SOURCE = "source";
+    String AUTO_SWAGGER_MIXIN_SUFFIX = "SwaggerMixin";
+
+    /**
+     * AutoSwagger strip profile, applies when the processor is not enabled (tree mode)
+     * |- io.github.photowey.auto.swagger.annotation.strip=proxy: remove the proxy annotations
+     * |- io.github.photowey.auto.swagger.annotation.strip=swagger: also remove the hand-written io.swagger.annotations.*
+     */
+    String AUTO_SWAGGER_ANNOTATION_STRIP_CONFIG_KEY = "io.github.photowey.auto.swagger.annotation.strip";
+    String AUTO_SWAGGER_ANNOTATION_STRIP_PROXY = "proxy";
+    String AUTO_SWAGGER_ANNOTATION_STRIP_SWAGGER = "swagger";
+
+    /**
+     * Gradle incremental annotation processing, reported by the dynamic processor through its supported options
+     */
+    String GRADLE_ISOLATING_PROCESSOR_OPTION = "org.gradle.annotation.processing.isolating";
+    String GRADLE_AGGREGATING_PROCESSOR_OPTION = "org.gradle.annotation.processing.aggregating";
+
+    /**
+     * Optional config file, looked up once in the class output, source path and class path
+     */
+    String AUTO_SWAGGER_CONFIG_FILE = "auto-swagger.properties";
+
+    /**
+     * Swagger v2 annotations
+     * |- Proxy annotations: io.github.photowey.auto.swagger.annotation.AutoXxx -> io.swagger.annotations.Xxx
+     * |- Shared annotations: io.github.photowey.auto.swagger.shared.io.swagger.annotations.Xxx -> io.swagger.annotations.Xxx
+     */
+    String SWAGGER_ANNOTATION_PACKAGE = "io.swagger.annotations";
+    String AUTO_SWAGGER_ANNOTATION_PACKAGE = "io.github.photowey.auto.swagger.annotation";
+    String AUTO_SWAGGER_ANNOTATION_PREFIX = "Auto";
+    String AUTO_SWAGGER_SHARED_PACKAGE_PREFIX = "io.github.photowey.auto.swagger.shared.";
+
+    String SWAGGER_API_FULL_QUALIFIED_NAME = "io.swagger.annotations.Api";
+    String SWAGGER_API_MODEL_FULL_QUALIFIED_NAME = "io.swagger.annotations.ApiModel";
+    String SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME = "io.swagger.annotations.ApiModelProperty";
+
+    /**
+     * Determine the Swagger type of a proxy or shared annotation (or of one of their nested types).
+     * |- io.github.photowey.auto.swagger.annotation.AutoApiModelProperty.AccessMode -> io.swagger.annotations.ApiModelProperty.AccessMode
+     * |- io.github.photowey.auto.swagger.shared.io.swagger.annotations.Extension -> io.swagger.annotations.Extension
+     *
+     * @param fullQualifiedName the qualified name of the proxy type
+     * @return the qualified name of the Swagger type, or the given name if it is not a proxy type
+     */
+    static String determineSwaggerTypeName(String fullQualifiedName) {
+        if (fullQualifiedName.startsWith(AUTO_SWAGGER_SHARED_PACKAGE_PREFIX)) {
+            return fullQualifiedName.substring(AUTO_SWAGGER_SHARED_PACKAGE_PREFIX.length());
+        }
+
+        String proxyPrefix = AUTO_SWAGGER_ANNOTATION_PACKAGE + "." + AUTO_SWAGGER_ANNOTATION_PREFIX;
+        if (fullQualifiedName.startsWith(proxyPrefix)) {
+            return SWAGGER_ANNOTATION_PACKAGE + "." + fullQualifiedName.substring(proxyPrefix.length());
+        }
+
+        return fullQualifiedName;
+    }
+
     static boolean determineAutoSwaggerAnnotationIsEnabled() {
-        String configValue = System.getenv(AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY);
+        return determineAutoSwaggerAnnotationIsEnabled(System.getenv(AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY));
+    }
+
+    static boolean determineAutoSwaggerAnnotationIsEnabled(String configValue) {
         if (determineAutoSwaggerAnnotationConfigValueIsValid(configValue)) {
             return Boolean.parseBoolean(configValue);
         }
@@ -0,0 +1,79 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeInfo;
+
+/**
+ * {@code AutoAnnotationMatcher}
+ * Matches annotation usages against one annotation type without allocating.
+ * <p>
+ * |- attributed usages: identity of the type symbol, same-named annotations of other packages never match
+ * |- synthesized or unattributed usages: identity of the interned {@link com.sun.tools.javac.util.Name}s,
+ * simple or fully qualified, see {@link AutoQualifiedName#matches}
+ * <p>
+ * Matching may complete the symbol of the annotation type: use it on the javac thread only.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationMatcher {
+
+    private Symbol symbol;
+    private final AutoQualifiedName qualifiedName;
+
+    AutoAnnotationMatcher(Symbol symbol, AutoQualifiedName qualifiedName) {
+        this.symbol = symbol;
+        this.qualifiedName = qualifiedName;
+    }
+
+    /**
+     * Resolve the type symbol again: JDK 8 javac enters every round into fresh symbols.
+     */
+    void refresh(Symbol symbol) {
+        this.symbol = symbol;
+    }
+
+    public AutoQualifiedName qualifiedName() {
+        return this.qualifiedName;
+    }
+
+    public boolean matches(JCTree.JCAnnotation annotation) {
+        Symbol symbol = TreeInfo.symbol(annotation.annotationType);
+        // getKind(): the kind field changed its type in JDK 9
+        if (null != symbol && null != this.symbol && symbol.getKind() == this.symbol.getKind()) {
+            return symbol == this.symbol;
+        }
+
+        return this.qualifiedName.matches(annotation.annotationType);
+    }
+
+    /**
+     * Determine whether any annotation of the declaration matches.
+     */
+    public boolean matchesAny(JCTree.JCModifiers mods) {
+        for (JCTree.JCAnnotation annotation : mods.annotations) {
+            if (this.matches(annotation)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.tree.JCTree;
+import io.github.photowey.auto.swagger.builder.AutoBuilder;
+
+import javax.lang.model.element.Element;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code AutoCompilationUnit}
+ * The annotated elements of a single compilation unit, grouped by the {@link AutoBuilder} that handles them.
+ * <p>
+ * The unit tree is resolved only once an element of it has been collected.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoCompilationUnit {
+
+    private JCTree.JCCompilationUnit unit;
+    private AutoTreeIndex index;
+    private final Map<AutoBuilder, List<Element>> elements = new LinkedHashMap<>(4);
+
+    public void add(AutoBuilder builder, Element element) {
+        this.elements.computeIfAbsent(builder, (x) -> new ArrayList<>()).add(element);
+    }
+
+    public void addAll(AutoCompilationUnit other) {
+        other.elements.forEach((builder, elements) -> this.elements.computeIfAbsent(builder, (x) -> new ArrayList<>()).addAll(elements));
+    }
+
+    public JCTree.JCCompilationUnit unit() {
+        return this.unit;
+    }
+
+    public AutoCompilationUnit unit(JCTree.JCCompilationUnit unit) {
+        this.unit = unit;
+        return this;
+    }
+
+    /**
+     * The declaration index of the unit, built on first use.
+     *
+     * @return the {@link AutoTreeIndex}
+     */
+    public AutoTreeIndex index() {
+        if (null == this.index) {
+            this.index = new AutoTreeIndex(this.unit);
+        }
+
+        return this.index;
+    }
+
+    public Map<AutoBuilder, List<Element>> elements() {
+        return Collections.unmodifiableMap(this.elements);
+    }
+
+    public List<Element> elements(AutoBuilder builder) {
+        return this.elements.getOrDefault(builder, Collections.emptyList());
+    }
+
+    public boolean isEmpty() {
+        return this.elements.isEmpty();
+    }
+}
@@ -16,10 +16,14 @@
 package io.github.photowey.auto.swagger.context;
 
 import com.sun.source.util.Trees;
+import com.sun.tools.javac.code.Symbol;
 import com.sun.tools.javac.tree.JCTree;
 import com.sun.tools.javac.tree.TreeMaker;
 import com.sun.tools.javac.util.Name;
 import com.sun.tools.javac.util.Names;
+import io.github.photowey.auto.swagger.builder.AutoValueTranslator;
+import io.github.photowey.auto.swagger.metrics.AutoMetrics;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationReader;
 
 import javax.annotation.processing.Filer;
 import javax.annotation.processing.Messager;
@@ -27,6 +31,8 @@ import javax.lang.model.element.Element;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * {@code AutoContext}
@@ -43,10 +49,20 @@ public class AutoContext implements Serializable {
     private Elements elements;
 
     private Trees trees;
+    private AutoOptions options;
+    private AutoMetrics metrics;
 
     private TreeMaker treeMaker;
     private Names names;
 
+    private transient AutoNameTable nameTable;
+    private transient AutoImportLedger importLedger;
+    private transient AutoAnnotationReader annotationReader;
+    private transient AutoValueTranslator valueTranslator;
+    private transient AutoProcessedElements processed;
+    private transient Map<String, AutoAnnotationMatcher> matchers;
+    private transient int round;
+
     // ----------------------------------------------------------------
 
     public JCTree.JCVariableDecl toVariable(Element element) {
@@ -65,6 +81,108 @@ public class AutoContext implements Serializable {
         return this.treeMaker().Assign(this.treeMaker().Ident(name), expr);
     }
 
+    public JCTree.JCExpression qualified(AutoQualifiedName qualifiedName) {
+        Name[] segments = qualifiedName.segments();
+        JCTree.JCExpression expr = this.treeMaker().Ident(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            expr = this.treeMaker().Select(expr, segments[i]);
+        }
+
+        return expr;
+    }
+
+    public AutoNameTable nameTable() {
+        if (null == this.nameTable) {
+            this.nameTable = new AutoNameTable(this.names);
+        }
+
+        return this.nameTable;
+    }
+
+    public AutoAnnotationReader annotationReader() {
+        if (null == this.annotationReader) {
+            this.annotationReader = new AutoAnnotationReader();
+        }
+
+        return this.annotationReader;
+    }
+
+    public AutoValueTranslator valueTranslator() {
+        if (null == this.valueTranslator) {
+            this.valueTranslator = new AutoValueTranslator(this);
+        }
+
+        return this.valueTranslator;
+    }
+
+    public AutoImportLedger importLedger() {
+        if (null == this.importLedger) {
+            this.importLedger = new AutoImportLedger(this);
+        }
+
+        return this.importLedger;
+    }
+
+    /**
+     * The matcher of an annotation type, resolved once.
+     *
+     * @param fullQualifiedName the qualified name of the annotation type
+     * @return the {@link AutoAnnotationMatcher}
+     */
+    public AutoAnnotationMatcher matcher(String fullQualifiedName) {
+        if (null == this.matchers) {
+            this.matchers = new HashMap<>(8);
+        }
+
+        return this.matchers.computeIfAbsent(fullQualifiedName, (x) -> new AutoAnnotationMatcher(
+                // null if not on the class path: matched by name only
+                (Symbol) this.elements.getTypeElement(x),
+                this.nameTable().qualified(x)
+        ));
+    }
+
+    /**
+     * Begin a processing round.
+     * <p>
+     * JDK 8 javac enters every round into a fresh context, the type symbols of the previous rounds are stale:
+     * the matchers resolve their symbol again, the builders their annotation type, see {@link #round()}.
+     */
+    public void nextRound() {
+        this.round++;
+        if (null != this.matchers) {
+            this.matchers.forEach((fullQualifiedName, matcher) -> matcher.refresh((Symbol) this.elements.getTypeElement(fullQualifiedName)));
+        }
+    }
+
+    /**
+     * The current processing round, starting at {@code 1}.
+     */
+    public int round() {
+        return this.round;
+    }
+
+    /**
+     * The declarations already handled, kept for the whole compilation.
+     *
+     * @return the {@link AutoProcessedElements}
+     */
+    public AutoProcessedElements processed() {
+        if (null == this.processed) {
+            this.processed = new AutoProcessedElements();
+        }
+
+        return this.processed;
+    }
+
+    /**
+     * Release the resources held for the compilation, called once processing is over.
+     */
+    public void release() {
+        if (null != this.processed) {
+            this.processed.clear();
+        }
+    }
+
     // ----------------------------------------------------------------
 
     public static AutoContextBuilder builder() {
@@ -91,6 +209,14 @@ public class AutoContext implements Serializable {
         return this.trees;
     }
 
+    public AutoOptions options() {
+        return this.options;
+    }
+
+    public AutoMetrics metrics() {
+        return this.metrics;
+    }
+
     public TreeMaker treeMaker() {
         return this.treeMaker;
     }
@@ -124,6 +250,16 @@ public class AutoContext implements Serializable {
         return this;
     }
 
+    public AutoContext options(AutoOptions options) {
+        this.options = options;
+        return this;
+    }
+
+    public AutoContext metrics(AutoMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
     public AutoContext treeMaker(TreeMaker treeMaker) {
         this.treeMaker = treeMaker;
         return this;
@@ -155,6 +291,8 @@ public class AutoContext implements Serializable {
         private Trees trees;
         private TreeMaker treeMaker;
         private Names names;
+        private AutoOptions options;
+        private AutoMetrics metrics;
 
         AutoContextBuilder() {
         }
@@ -194,8 +332,20 @@ public class AutoContext implements Serializable {
             return this;
         }
 
+        public AutoContextBuilder options(AutoOptions options) {
+            this.options = options;
+            return this;
+        }
+
+        public AutoContextBuilder metrics(AutoMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
         public AutoContext build() {
-            return new AutoContext(this.filer, this.messager, this.types, this.elements, this.trees, this.treeMaker, this.names);
+            return new AutoContext(this.filer, this.messager, this.types, this.elements, this.trees, this.treeMaker, this.names)
+                    .options(this.options)
+                    .metrics(this.metrics);
         }
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * {@code AutoGlobFilter}
+ * Include/exclude filter over qualified class names, compiled once from comma-separated globs.
+ * <p>
+ * {@code *} matches within a name segment, {@code **} matches across segments, so
+ * {@code com.example.proto.**} skips a whole package tree.
+ * An empty include list includes everything, excludes win over includes.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoGlobFilter {
+
+    private final List<Pattern> includes;
+    private final List<Pattern> excludes;
+
+    public AutoGlobFilter(String includes, String excludes) {
+        this.includes = compile(includes);
+        this.excludes = compile(excludes);
+    }
+
+    public boolean isEmpty() {
+        return this.includes.isEmpty() && this.excludes.isEmpty();
+    }
+
+    public boolean determineIsIncluded(CharSequence fullQualifiedName) {
+        if (this.isEmpty()) {
+            return true;
+        }
+
+        if (!this.includes.isEmpty() && !matches(this.includes, fullQualifiedName)) {
+            return false;
+        }
+
+        return !matches(this.excludes, fullQualifiedName);
+    }
+
+    // ----------------------------------------------------------------
+
+    private static boolean matches(List<Pattern> patterns, CharSequence fullQualifiedName) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(fullQualifiedName).matches()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static List<Pattern> compile(String globs) {
+        List<Pattern> patterns = new ArrayList<>();
+        if (null == globs) {
+            return patterns;
+        }
+
+        for (String glob : globs.split(",")) {
+            String trimmed = glob.trim();
+            if (!trimmed.isEmpty()) {
+                patterns.add(toPattern(trimmed));
+            }
+        }
+
+        return patterns;
+    }
+
+    private static Pattern toPattern(String glob) {
+        StringBuilder regex = new StringBuilder(glob.length() * 2);
+        for (int i = 0; i < glob.length(); i++) {
+            char ch = glob.charAt(i);
+            if ('*' == ch) {
+                if (i + 1 < glob.length() && '*' == glob.charAt(i + 1)) {
+                    regex.append(".*");
+                    i++;
+                } else {
+                    regex.append("[^.]*");
+                }
+            } else if ('?' == ch) {
+                regex.append("[^.]");
+            } else if ('$' == ch || '.' == ch) {
+                regex.append('\\').append(ch);
+            } else {
+                regex.append(ch);
+            }
+        }
+
+        return Pattern.compile(regex.toString());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeInfo;
+import com.sun.tools.javac.util.ListBuffer;
+import io.github.photowey.auto.swagger.compat.AutoJavacCompat;
+import io.github.photowey.auto.swagger.metrics.AutoBuilderMetrics;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code AutoImportLedger}
+ * Records the imports required by each compilation unit during a round
+ * and writes every unit's import list once, at the end of the round.
+ * <p>
+ * Imports that already exist, are covered by a wildcard import or point into the unit's own package are skipped.
+ * A unit that already resolves the simple name to another type (a single-type or wildcard import, a type of its own
+ * package or declared in it) gets no import: the annotation is written fully qualified instead.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoImportLedger {
+
+    private static final String WILDCARD = "*";
+
+    private final AutoContext context;
+    private final Map<JCTree.JCCompilationUnit, Map<AutoQualifiedName, AutoBuilderMetrics>> ledger = new LinkedHashMap<>();
+    private final Map<JCTree.JCCompilationUnit, Set<AutoQualifiedName>> taken = new HashMap<>();
+    private final Map<AutoQualifiedName, Map<Symbol, Boolean>> provided = new HashMap<>(4);
+
+    public AutoImportLedger(AutoContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Record the import of the given type.
+     *
+     * @param unit          the compilation unit
+     * @param qualifiedName the type to import
+     * @return {@code false} if the simple name already resolves to another type in the unit: nothing is recorded,
+     * the caller must refer to the type fully qualified
+     */
+    public boolean record(JCTree.JCCompilationUnit unit, AutoQualifiedName qualifiedName) {
+        Map<AutoQualifiedName, AutoBuilderMetrics> required = this.ledger.get(unit);
+        if (null != required && required.containsKey(qualifiedName)) {
+            return true;
+        }
+
+        Set<AutoQualifiedName> taken = this.taken.computeIfAbsent(unit, (x) -> new HashSet<>(2));
+        if (taken.contains(qualifiedName)) {
+            return false;
+        }
+        if (this.determineIsTaken(unit, qualifiedName)) {
+            taken.add(qualifiedName);
+
+            return false;
+        }
+
+        // The first recording builder is credited with the import
+        this.ledger.computeIfAbsent(unit, (x) -> new LinkedHashMap<>(2)).put(qualifiedName, this.context.metrics().current());
+
+        return true;
+    }
+
+    public void flush() {
+        this.ledger.forEach(this::handleImportsAdd);
+        this.ledger.clear();
+        this.taken.clear();
+        // JDK 8: fresh symbols every round
+        this.provided.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    private void handleImportsAdd(JCTree.JCCompilationUnit unit, Map<AutoQualifiedName, AutoBuilderMetrics> required) {
+        Set<String> existing = this.determineExistingImports(unit);
+
+        ListBuffer<JCTree> imports = new ListBuffer<>();
+        for (Map.Entry<AutoQualifiedName, AutoBuilderMetrics> entry : required.entrySet()) {
+            AutoQualifiedName qualifiedName = entry.getKey();
+            if (existing.contains(qualifiedName.fullQualifiedName()) || existing.contains(qualifiedName.packageName() + "." + WILDCARD)) {
+                continue;
+            }
+
+            JCTree.JCImport ipt = AutoJavacCompat.newImport(this.context.treeMaker(), this.context.qualified(qualifiedName), false);
+            imports.append(ipt);
+            entry.getValue().imported(ipt);
+        }
+
+        if (imports.isEmpty()) {
+            return;
+        }
+
+        ListBuffer<JCTree> defs = new ListBuffer<>();
+        boolean appended = false;
+        for (JCTree def : unit.defs) {
+            if (!appended && def instanceof JCTree.JCClassDecl) {
+                defs.appendList(imports);
+                appended = true;
+            }
+            defs.append(def);
+        }
+        if (!appended) {
+            defs.appendList(imports);
+        }
+
+        unit.defs = defs.toList();
+    }
+
+    /**
+     * Determine whether the simple name of the type already resolves to another type in the unit.
+     * <p>
+     * Compares the interned names of the trees, the packages and classes imported on demand are looked up once per round.
+     */
+    private boolean determineIsTaken(JCTree.JCCompilationUnit unit, AutoQualifiedName qualifiedName) {
+        for (JCTree def : unit.defs) {
+            if (def instanceof JCTree.JCClassDecl && ((JCTree.JCClassDecl) def).name == qualifiedName.simpleName()) {
+                return true;
+            }
+        }
+        if (this.determineIsProvided(unit.packge, qualifiedName)) {
+            return true;
+        }
+
+        for (JCTree.JCImport ipt : unit.getImports()) {
+            // Through the com.sun.source interfaces: the javac return types differ across JDK releases
+            Tree qualid = ((ImportTree) ipt).getQualifiedIdentifier();
+            if (ipt.isStatic() || !(qualid instanceof JCTree.JCFieldAccess)) {
+                continue;
+            }
+
+            JCTree.JCFieldAccess access = (JCTree.JCFieldAccess) qualid;
+            if (access.name == qualifiedName.simpleName()) {
+                if (!qualifiedName.matches(access)) {
+                    return true;
+                }
+            } else if (access.name == this.context.names().asterisk && this.determineIsProvided(TreeInfo.symbol(access.selected), qualifiedName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Determine whether the package or class provides another type of the same simple name.
+     */
+    private boolean determineIsProvided(Symbol owner, AutoQualifiedName qualifiedName) {
+        if (null == owner) {
+            return false;
+        }
+
+        Map<Symbol, Boolean> provided = this.provided.computeIfAbsent(qualifiedName, (x) -> new IdentityHashMap<>());
+        Boolean result = provided.get(owner);
+        if (null == result) {
+            result = false;
+            for (Element member : owner.getEnclosedElements()) {
+                if ((member.getKind().isClass() || member.getKind().isInterface())
+                        && member.getSimpleName() == qualifiedName.simpleName()
+                        && !((TypeElement) member).getQualifiedName().contentEquals(qualifiedName.fullQualifiedName())) {
+                    result = true;
+                    break;
+                }
+            }
+            provided.put(owner, result);
+        }
+
+        return result;
+    }
+
+    private Set<String> determineExistingImports(JCTree.JCCompilationUnit unit) {
+        Set<String> existing = new HashSet<>();
+        // Through the com.sun.source interfaces: the javac return types differ across JDK releases
+        ExpressionTree packageName = ((CompilationUnitTree) unit).getPackageName();
+        if (null != packageName) {
+            existing.add(packageName.toString() + "." + WILDCARD);
+        }
+
+        for (JCTree.JCImport ipt : unit.getImports()) {
+            if (!ipt.isStatic()) {
+                existing.add(((ImportTree) ipt).getQualifiedIdentifier().toString());
+            }
+        }
+
+        return existing;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.util.Name;
+import com.sun.tools.javac.util.Names;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code AutoNameTable}
+ * The {@link Name}s and {@link AutoQualifiedName}s used by the builders, interned once per compilation.
+ * <p>
+ * Builders resolve what they need when they are created and keep the result,
+ * so annotation synthesis does no string work or {@link Names} lookup per element.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoNameTable {
+
+    private final Names names;
+
+    private final Map<String, Name> identifiers = new HashMap<>(64);
+    private final Map<String, AutoQualifiedName> qualifiedNames = new HashMap<>(16);
+
+    public AutoNameTable(Names names) {
+        this.names = names;
+
+        this.qualified(AutoConstants.SWAGGER_API_FULL_QUALIFIED_NAME);
+        this.qualified(AutoConstants.SWAGGER_API_MODEL_FULL_QUALIFIED_NAME);
+        this.qualified(AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME);
+    }
+
+    public Name identifier(String identifier) {
+        return this.identifiers.computeIfAbsent(identifier, this.names::fromString);
+    }
+
+    public AutoQualifiedName qualified(String fullQualifiedName) {
+        return this.qualifiedNames.computeIfAbsent(fullQualifiedName, (x) -> new AutoQualifiedName(this.names, x));
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * {@code AutoOptions}
+ * The processor configuration, resolved once per compilation.
+ * <p>
+ * Lookup order of every key:
+ * |- {@code -A} processor option
+ * |- {@code auto-swagger.properties}, read once through {@link Filer#getResource}
+ * |- environment variable
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoOptions {
+
+    public static final Set<String> SUPPORTED_OPTIONS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_MODE_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_INCLUDES_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_EXCLUDES_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_METRICS_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_METRICS_SUMMARY_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_DEFINITIONS_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_PATHS_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_SHARD_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_CONFIG_KEY,
+            AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_PACKAGE_CONFIG_KEY
+    )));
+
+    private final Map<String, String> options;
+    private final Properties properties;
+
+    private final boolean enabled;
+    private final boolean sourceMode;
+    private final boolean stripSwagger;
+    private final AutoGlobFilter filter;
+    private final boolean metrics;
+    private final boolean metricsSummary;
+    private final boolean definitions;
+    private final boolean paths;
+    private final String shard;
+    private final boolean registry;
+
+    AutoOptions(Map<String, String> options, Properties properties) {
+        this.options = options;
+        this.properties = properties;
+
+        this.enabled = AutoConstants.determineAutoSwaggerAnnotationIsEnabled(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY));
+        this.sourceMode = AutoConstants.AUTO_SWAGGER_ANNOTATION_MODE_SOURCE.equalsIgnoreCase(
+                this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_MODE_CONFIG_KEY));
+        this.stripSwagger = !this.enabled && AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_SWAGGER.equalsIgnoreCase(
+                this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_CONFIG_KEY));
+        this.filter = new AutoGlobFilter(
+                this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_INCLUDES_CONFIG_KEY),
+                this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_EXCLUDES_CONFIG_KEY)
+        );
+        this.metrics = Boolean.parseBoolean(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_METRICS_CONFIG_KEY));
+        this.metricsSummary = Boolean.parseBoolean(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_METRICS_SUMMARY_CONFIG_KEY));
+        this.definitions = this.enabled && Boolean.parseBoolean(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_DEFINITIONS_CONFIG_KEY));
+        this.shard = this.enabled ? determineShard(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_SHARD_CONFIG_KEY)) : null;
+        this.paths = this.enabled && (null != this.shard || Boolean.parseBoolean(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_PATHS_CONFIG_KEY)));
+        this.registry = Boolean.parseBoolean(this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_CONFIG_KEY));
+    }
+
+    public static AutoOptions load(ProcessingEnvironment env) {
+        return new AutoOptions(env.getOptions(), loadProperties(env.getFiler()));
+    }
+
+    public String get(String key) {
+        String value = this.options.get(key);
+        if (null != value) {
+            return value;
+        }
+
+        value = this.properties.getProperty(key);
+        if (null != value) {
+            return value;
+        }
+
+        return System.getenv(key);
+    }
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    /**
+     * Whether {@code XxxSwaggerMixin} sources are generated instead of rewriting the javac trees.
+     *
+     * @return {@code true} in source mode
+     */
+    public boolean sourceMode() {
+        return this.sourceMode;
+    }
+
+    /**
+     * Whether the disabled processor also removes the hand-written {@code io.swagger.annotations.*} annotations.
+     *
+     * @return {@code true} with the {@code swagger} strip profile
+     */
+    public boolean stripSwagger() {
+        return this.stripSwagger;
+    }
+
+    public AutoGlobFilter filter() {
+        return this.filter;
+    }
+
+    public boolean metrics() {
+        return this.metrics;
+    }
+
+    public boolean metricsSummary() {
+        return this.metricsSummary;
+    }
+
+    /**
+     * Whether the Swagger 2.0 model definitions are written, only when enabled.
+     *
+     * @return {@code true} if written
+     */
+    public boolean definitions() {
+        return this.definitions;
+    }
+
+    /**
+     * Whether the Swagger 2.0 paths of the {@code @AutoApi} controllers are written, with the definitions they refer to.
+     *
+     * @return {@code true} if written
+     */
+    public boolean paths() {
+        return this.paths;
+    }
+
+    /**
+     * How the spec is sharded, sharding also collects the paths.
+     *
+     * @return {@code tag}, {@code package}, or {@code null} if not sharded
+     */
+    public String shard() {
+        return this.shard;
+    }
+
+    /**
+     * Whether the {@code AutoSwaggerRegistry} is generated, also when stripping: it then replaces the annotations.
+     *
+     * @return {@code true} if generated
+     */
+    public boolean registry() {
+        return this.registry;
+    }
+
+    /**
+     * The configured registry package.
+     *
+     * @return the package, or {@code null} for the common package of the models
+     */
+    public String registryPackage() {
+        return this.get(AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_PACKAGE_CONFIG_KEY);
+    }
+
+    /**
+     * Whether the processor writes resources aggregated over all processed classes,
+     * which makes it an aggregating processor for Gradle incremental compilation.
+     *
+     * @return {@code true} if aggregating
+     */
+    public boolean aggregating() {
+        return this.metrics || this.definitions || this.paths || this.registry;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String determineShard(String value) {
+        if (null == value) {
+            return null;
+        }
+
+        String shard = value.trim().toLowerCase();
+        if (AutoConstants.AUTO_SWAGGER_ANNOTATION_SHARD_TAG.equals(shard) || AutoConstants.AUTO_SWAGGER_ANNOTATION_SHARD_PACKAGE.equals(shard)) {
+            return shard;
+        }
+
+        return null;
+    }
+
+    private static Properties loadProperties(Filer filer) {
+        Properties properties = new Properties();
+
+        StandardLocation[] locations = {StandardLocation.CLASS_OUTPUT, StandardLocation.SOURCE_PATH, StandardLocation.CLASS_PATH};
+        for (StandardLocation location : locations) {
+            try {
+                FileObject resource = filer.getResource(location, "", AutoConstants.AUTO_SWAGGER_CONFIG_FILE);
+                try (InputStream in = resource.openInputStream()) {
+                    properties.load(in);
+
+                    return properties;
+                }
+            } catch (IOException | IllegalArgumentException | IllegalStateException ignored) {
+                // Not found (or not supported by the build tool) at this location
+            }
+        }
+
+        return properties;
+    }
+}
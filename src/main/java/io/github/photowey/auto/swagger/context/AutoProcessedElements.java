@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.tree.JCTree;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code AutoProcessedElements}
+ * The declarations already handled for each proxy annotation, over the whole compilation.
+ * <p>
+ * Declarations are tracked by tree identity: javac keeps the trees across rounds,
+ * while JDK 8 re-creates the field symbols of every round.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoProcessedElements {
+
+    private final Map<Class<? extends Annotation>, Set<JCTree>> processed = new IdentityHashMap<>(4);
+
+    /**
+     * Mark the declaration as processed for the proxy annotation.
+     *
+     * @param annotationType the proxy annotation type
+     * @param declaration    the class or field declaration
+     * @return {@code true} if it was not processed yet, in this round or an earlier one
+     */
+    public boolean mark(Class<? extends Annotation> annotationType, JCTree declaration) {
+        return this.processed.computeIfAbsent(annotationType, (x) -> Collections.newSetFromMap(new IdentityHashMap<>())).add(declaration);
+    }
+
+    public void clear() {
+        this.processed.clear();
+    }
+}
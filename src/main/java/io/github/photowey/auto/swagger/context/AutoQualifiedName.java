@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.util.Name;
+import com.sun.tools.javac.util.Names;
+
+/**
+ * {@code AutoQualifiedName}
+ * A fully qualified type name split and interned once: its package, simple {@link Name}
+ * and the {@link Name} segments used to build {@code JCFieldAccess} chains (imports, qualified annotations).
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoQualifiedName {
+
+    private final String fullQualifiedName;
+    private final String packageName;
+    private final Name simpleName;
+    private final Name[] segments;
+
+    public AutoQualifiedName(Names names, String fullQualifiedName) {
+        this.fullQualifiedName = fullQualifiedName;
+        this.packageName = fullQualifiedName.substring(0, fullQualifiedName.lastIndexOf("."));
+
+        String[] parts = fullQualifiedName.split("\\.");
+        this.segments = new Name[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            this.segments[i] = names.fromString(parts[i]);
+        }
+        this.simpleName = this.segments[parts.length - 1];
+    }
+
+    public String fullQualifiedName() {
+        return this.fullQualifiedName;
+    }
+
+    public String packageName() {
+        return this.packageName;
+    }
+
+    public Name simpleName() {
+        return this.simpleName;
+    }
+
+    public Name[] segments() {
+        return this.segments;
+    }
+
+    /**
+     * Determine whether an annotation type tree names this type, as its simple name or fully qualified.
+     * <p>
+     * {@link Name}s are interned, so the segments are compared by identity.
+     *
+     * @param tree the annotation type tree
+     * @return {@code true} if it names this type
+     */
+    public boolean matches(JCTree tree) {
+        if (tree instanceof JCTree.JCIdent) {
+            return ((JCTree.JCIdent) tree).name == this.simpleName;
+        }
+
+        JCTree expr = tree;
+        for (int i = this.segments.length - 1; i > 0; i--) {
+            if (!(expr instanceof JCTree.JCFieldAccess) || ((JCTree.JCFieldAccess) expr).name != this.segments[i]) {
+                return false;
+            }
+            expr = ((JCTree.JCFieldAccess) expr).selected;
+        }
+
+        return expr instanceof JCTree.JCIdent && ((JCTree.JCIdent) expr).name == this.segments[0];
+    }
+
+    @Override
+    public String toString() {
+        return this.fullQualifiedName;
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import com.sun.tools.javac.code.Symbol;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeScanner;
+
+import javax.lang.model.element.Element;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@code AutoTreeIndex}
+ * Maps the class and field declarations of a compilation unit to their trees.
+ * <p>
+ * Built by a single {@link TreeScanner} pass over the unit, method bodies and initializers are not visited.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoTreeIndex {
+
+    private final JCTree.JCCompilationUnit unit;
+
+    private final Map<Symbol, JCTree.JCClassDecl> classes = new IdentityHashMap<>();
+    private final Map<Symbol, JCTree.JCVariableDecl> variables = new IdentityHashMap<>();
+
+    public AutoTreeIndex(JCTree.JCCompilationUnit unit) {
+        this.unit = unit;
+        new IndexScanner().scan(unit);
+    }
+
+    public JCTree.JCCompilationUnit unit() {
+        return this.unit;
+    }
+
+    public JCTree.JCClassDecl toClass(Element element) {
+        return this.classes.get((Symbol) element);
+    }
+
+    public JCTree.JCVariableDecl toVariable(Element element) {
+        return this.variables.get((Symbol) element);
+    }
+
+    // ----------------------------------------------------------------
+
+    private class IndexScanner extends TreeScanner {
+
+        @Override
+        public void visitClassDef(JCTree.JCClassDecl tree) {
+            if (null != tree.sym) {
+                classes.put(tree.sym, tree);
+            }
+
+            this.scan(tree.defs);
+        }
+
+        @Override
+        public void visitVarDef(JCTree.JCVariableDecl tree) {
+            if (null != tree.sym) {
+                variables.put(tree.sym, tree);
+            }
+        }
+
+        @Override
+        public void visitMethodDef(JCTree.JCMethodDecl tree) {
+        }
+
+        @Override
+        public void visitBlock(JCTree.JCBlock tree) {
+        }
+
+        @Override
+        public void visitImport(JCTree.JCImport tree) {
+        }
+    }
+}
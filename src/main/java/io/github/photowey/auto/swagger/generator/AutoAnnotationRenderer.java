@@ -0,0 +1,133 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.generator;
+
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.reader.AutoValueSnapshot;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code AutoAnnotationRenderer}
+ * Renders proxy annotations as the source text of their Swagger counterparts, using {@code javax.lang.model} only.
+ * <p>
+ * Top-level attributes equal to their default are left out, nested annotations keep every member written by the user.
+ * Every type is written fully qualified, generated sources need no imports.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationRenderer {
+
+    private final Elements elements;
+    private final Types types;
+
+    public AutoAnnotationRenderer(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    public String render(AnnotationMirror proxy) {
+        StringBuilder source = new StringBuilder("@").append(this.determineTargetTypeName(proxy));
+
+        String separator = "(";
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : proxy.getElementValues().entrySet()) {
+            AnnotationValue defaultValue = entry.getKey().getDefaultValue();
+            if (null != defaultValue && AutoValueSnapshot.of(entry.getValue(), this.elements).equals(AutoValueSnapshot.of(defaultValue, this.elements))) {
+                continue;
+            }
+
+            source.append(separator).append(entry.getKey().getSimpleName()).append(" = ");
+            this.render(entry.getValue(), source);
+            separator = ", ";
+        }
+
+        return "(".equals(separator) ? source.toString() : source.append(')').toString();
+    }
+
+    /**
+     * The Swagger annotation without any attribute.
+     */
+    public String render(String fullQualifiedName) {
+        return "@" + fullQualifiedName;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void render(AnnotationValue value, StringBuilder source) {
+        Object target = value.getValue();
+
+        if (target instanceof List) {
+            source.append('{');
+            String separator = "";
+            for (Object element : (List<?>) target) {
+                source.append(separator);
+                this.render((AnnotationValue) element, source);
+                separator = ", ";
+            }
+            source.append('}');
+
+            return;
+        }
+        if (target instanceof AnnotationMirror) {
+            this.renderNested((AnnotationMirror) target, source);
+
+            return;
+        }
+        if (target instanceof VariableElement) {
+            VariableElement constant = (VariableElement) target;
+            source.append(AutoConstants.determineSwaggerTypeName(((TypeElement) constant.getEnclosingElement()).getQualifiedName().toString()))
+                    .append('.').append(constant.getSimpleName());
+
+            return;
+        }
+        if (target instanceof TypeMirror) {
+            source.append(this.types.erasure((TypeMirror) target)).append(".class");
+
+            return;
+        }
+
+        source.append(this.elements.getConstantExpression(target));
+    }
+
+    private void renderNested(AnnotationMirror mirror, StringBuilder source) {
+        source.append('@').append(this.determineTargetTypeName(mirror)).append('(');
+
+        String separator = "";
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            source.append(separator).append(entry.getKey().getSimpleName()).append(" = ");
+            this.render(entry.getValue(), source);
+            separator = ", ";
+        }
+        source.append(')');
+    }
+
+    private String determineTargetTypeName(AnnotationMirror mirror) {
+        TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+
+        return AutoConstants.determineSwaggerTypeName(annotationType.getQualifiedName().toString());
+    }
+}
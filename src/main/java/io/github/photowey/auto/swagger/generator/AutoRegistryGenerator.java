@@ -0,0 +1,470 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.generator;
+
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoGlobFilter;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationSchema;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code AutoRegistryGenerator}
+ * Generates the {@code AutoSwaggerRegistry} of the module: the {@code @ApiModelProperty} metadata of every model
+ * as static arrays, looked up through {@code switch} statements by class and field name.
+ * <p>
+ * Every field of an {@code @AutoApiModel} class is a property: fields without annotations get default metadata.
+ * A hand-written {@code @ApiModelProperty} takes precedence over the proxy, as it does in the class file.
+ * <p>
+ * With springfox on the class path an {@code AutoSwaggerModelPropertyBuilderPlugin} is generated next to it,
+ * which applies the registry entries. It runs after the reflective springfox plugin and does not replace it: it only
+ * helps when the class files carry no {@code @ApiModelProperty}, with the proxies stripped
+ * ({@code enabled=false}, {@code strip=proxy}) or in the source mode. In the tree mode it re-applies what springfox read.
+ * <p>
+ * The registry aggregates the models of the whole module: they are collected in every round, models generated by
+ * other processors included, and the registry is written once in the last round.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoRegistryGenerator {
+
+    private static final String REGISTRY_NAME = "AutoSwaggerRegistry";
+    private static final String PLUGIN_NAME = "AutoSwaggerModelPropertyBuilderPlugin";
+    private static final String SPRINGFOX_PLUGIN = "springfox.documentation.spi.schema.ModelPropertyBuilderPlugin";
+    private static final String SPRINGFOX_PLUGIN_SUPPORT = "springfox.documentation.swagger.common.SwaggerPluginSupport";
+    private static final String SPRINGFOX_MODEL_PROPERTIES = "springfox.documentation.swagger.schema.ApiModelProperties";
+
+    /**
+     * The string attributes of a registry row, in column order.
+     */
+    private static final String[] COLUMNS = {"value", "dataType", "example", "allowableValues"};
+
+    private static final int REQUIRED = 1;
+    private static final int READ_ONLY = 1 << 1;
+    private static final int HIDDEN = 1 << 2;
+
+    private final AutoContext context;
+    /**
+     * The models of every round by binary name, read in their round: the elements do not outlive it on JDK 8.
+     */
+    private final Map<String, Model> models = new TreeMap<>();
+
+    public AutoRegistryGenerator(AutoContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Collect the models of the round.
+     *
+     * @param env the round environment
+     */
+    public void collect(RoundEnvironment env) {
+        TypeElement apiModel = this.context.elements().getTypeElement(AutoApiModel.class.getName());
+        TypeElement apiModelProperty = this.context.elements().getTypeElement(AutoApiModelProperty.class.getName());
+        TypeElement swaggerApiModelProperty = this.context.elements().getTypeElement(AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME);
+        Map<String, TypeElement> types = this.determineModels(env, apiModel, apiModelProperty, swaggerApiModelProperty);
+        for (Map.Entry<String, TypeElement> entry : types.entrySet()) {
+            if (this.models.containsKey(entry.getKey())) {
+                continue;
+            }
+
+            Model model = new Model(entry.getKey(), entry.getValue(),
+                    this.context.elements().getPackageOf(entry.getValue()).getQualifiedName().toString());
+            boolean autoApiModel = null != entry.getValue().getAnnotation(AutoApiModel.class);
+            for (VariableElement field : ElementFilter.fieldsIn(entry.getValue().getEnclosedElements())) {
+                if (ElementKind.FIELD != field.getKind() || field.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+
+                AutoAnnotationValues values = this.read(field, swaggerApiModelProperty);
+                if (null == values) {
+                    values = this.read(field, apiModelProperty);
+                }
+                if (null != values || autoApiModel) {
+                    // null: the default metadata
+                    model.properties.put(field.getSimpleName().toString(), values);
+                }
+            }
+            this.models.put(entry.getKey(), model);
+        }
+    }
+
+    /**
+     * Generate the registry from the models of every round, once per compilation: in the last round.
+     */
+    public void generate() {
+        if (this.models.isEmpty()) {
+            return;
+        }
+
+        List<Model> rows = new ArrayList<>(this.models.size());
+        List<TypeElement> originatingElements = new ArrayList<>(this.models.size());
+        for (Model model : this.models.values()) {
+            originatingElements.add(model.element);
+            if (!model.properties.isEmpty()) {
+                rows.add(model);
+            }
+        }
+
+        String packageName = this.determinePackageName(this.models.values());
+        TypeElement[] elements = originatingElements.toArray(new TypeElement[0]);
+        this.handleWrite(packageName, REGISTRY_NAME, this.renderRegistry(packageName, rows), elements);
+        if (this.determineIsSpringfoxPresent()) {
+            this.handleWrite(packageName, PLUGIN_NAME, this.renderPlugin(packageName), elements);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The models by binary name (the {@link Class#getName()} the plugin looks them up with), sorted.
+     */
+    private Map<String, TypeElement> determineModels(RoundEnvironment env, TypeElement... annotationTypes) {
+        AutoGlobFilter filter = this.context.options().filter();
+        Map<String, TypeElement> models = new TreeMap<>();
+        for (TypeElement annotationType : annotationTypes) {
+            if (null == annotationType) {
+                continue;
+            }
+
+            for (Element element : env.getElementsAnnotatedWith(annotationType)) {
+                Element owner = element.getKind().isField() ? element.getEnclosingElement() : element;
+                if (!(owner instanceof TypeElement)) {
+                    continue;
+                }
+
+                TypeElement type = (TypeElement) owner;
+                // The source mode mixins carry the Swagger annotations of their models
+                if (!type.getSimpleName().toString().endsWith(AutoConstants.AUTO_SWAGGER_MIXIN_SUFFIX)
+                        && (filter.isEmpty() || filter.determineIsIncluded(type.getQualifiedName()))) {
+                    models.put(this.context.elements().getBinaryName(type).toString(), type);
+                }
+            }
+        }
+
+        return models;
+    }
+
+    /**
+     * The configured package, else the common package of the models.
+     */
+    private String determinePackageName(Iterable<Model> models) {
+        String configured = this.context.options().registryPackage();
+        if (null != configured && !configured.trim().isEmpty()) {
+            return configured.trim();
+        }
+
+        String common = null;
+        for (Model model : models) {
+            common = null == common ? model.packageName : this.determineCommonPackage(common, model.packageName);
+        }
+
+        return null == common || common.isEmpty() ? AutoConstants.AUTO_SWAGGER_REGISTRY_DEFAULT_PACKAGE : common;
+    }
+
+    private String determineCommonPackage(String left, String right) {
+        String[] lefts = left.split("\\.");
+        String[] rights = right.split("\\.");
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(lefts.length, rights.length) && lefts[i].equals(rights[i]); i++) {
+            common.append(0 == i ? "" : ".").append(lefts[i]);
+        }
+
+        return common.toString();
+    }
+
+    private boolean determineIsSpringfoxPresent() {
+        return null != this.context.elements().getTypeElement(SPRINGFOX_PLUGIN)
+                && null != this.context.elements().getTypeElement(SPRINGFOX_PLUGIN_SUPPORT)
+                && null != this.context.elements().getTypeElement(SPRINGFOX_MODEL_PROPERTIES);
+    }
+
+    private AutoAnnotationValues read(Element element, TypeElement annotationType) {
+        return null != annotationType ? this.context.annotationReader().read(element, annotationType) : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    private String renderRegistry(String packageName, List<Model> models) {
+        int size = 0;
+        for (Model model : models) {
+            size += model.properties.size();
+        }
+
+        StringBuilder source = new StringBuilder(1024 + size * 128);
+        source.append("package ").append(packageName).append(";\n\n");
+        source.append("/**\n * The {@code @ApiModelProperty} metadata of the models of the module, generated by auto-swagger.\n")
+                .append(" * <p>\n * {@link #indexOf(String, String)} resolves a property to its row, without reflection.\n */\n");
+        source.append("public final class ").append(REGISTRY_NAME).append(" {\n\n");
+        source.append("    public static final int REQUIRED = ").append(REQUIRED).append(";\n");
+        source.append("    public static final int READ_ONLY = ").append(READ_ONLY).append(";\n");
+        source.append("    public static final int HIDDEN = ").append(HIDDEN).append(";\n\n");
+        source.append("    private static final int DESCRIPTION = 0;\n");
+        source.append("    private static final int DATA_TYPE = 1;\n");
+        source.append("    private static final int EXAMPLE = 2;\n");
+        source.append("    private static final int ALLOWABLE_VALUES = 3;\n\n");
+        source.append("    private static final String[][] VALUES = new String[").append(size).append("][];\n");
+        source.append("    private static final int[] FLAGS = new int[").append(size).append("];\n");
+        source.append("    private static final int[] POSITIONS = new int[").append(size).append("];\n\n");
+
+        // One initializer per model: the class initializer stays far below the method size limit
+        source.append("    static {\n");
+        for (int i = 0; i < models.size(); i++) {
+            source.append("        model").append(i).append("();\n");
+        }
+        source.append("    }\n\n");
+
+        source.append("    private ").append(REGISTRY_NAME).append("() {\n    }\n\n");
+        source.append("    /**\n     * The row of a model property.\n     *\n")
+                .append("     * @param className the {@link Class#getName()} of the declaring class\n")
+                .append("     * @param property  the field name\n")
+                .append("     * @return the row, or {@code -1} if not registered\n     */\n");
+        source.append("    public static int indexOf(String className, String property) {\n");
+        source.append("        switch (className) {\n");
+        for (int i = 0; i < models.size(); i++) {
+            source.append("            case ").append(this.literal(models.get(i).className)).append(":\n")
+                    .append("                return indexOf").append(i).append("(property);\n");
+        }
+        source.append("            default:\n                return -1;\n        }\n    }\n\n");
+
+        source.append("    public static int size() {\n        return ").append(size).append(";\n    }\n\n");
+        this.renderAccessor(source, "String", "description", "VALUES[index][DESCRIPTION]");
+        this.renderAccessor(source, "String", "dataType", "VALUES[index][DATA_TYPE]");
+        this.renderAccessor(source, "String", "example", "VALUES[index][EXAMPLE]");
+        this.renderAccessor(source, "String", "allowableValues", "VALUES[index][ALLOWABLE_VALUES]");
+        this.renderAccessor(source, "boolean", "required", "0 != (FLAGS[index] & REQUIRED)");
+        this.renderAccessor(source, "boolean", "readOnly", "0 != (FLAGS[index] & READ_ONLY)");
+        this.renderAccessor(source, "boolean", "hidden", "0 != (FLAGS[index] & HIDDEN)");
+        this.renderAccessor(source, "int", "position", "POSITIONS[index]");
+
+        int row = 0;
+        for (int i = 0; i < models.size(); i++) {
+            row = this.renderModel(source, i, row, models.get(i));
+        }
+        source.setLength(source.length() - 1);
+        source.append("}\n");
+
+        return source.toString();
+    }
+
+    private void renderAccessor(StringBuilder source, String type, String name, String expression) {
+        source.append("    public static ").append(type).append(' ').append(name).append("(int index) {\n")
+                .append("        return ").append(expression).append(";\n    }\n\n");
+    }
+
+    private int renderModel(StringBuilder source, int model, int start, Model rows) {
+        StringBuilder index = new StringBuilder();
+        StringBuilder init = new StringBuilder();
+        int row = start;
+        for (Map.Entry<String, AutoAnnotationValues> entry : rows.properties.entrySet()) {
+            index.append("            case ").append(this.literal(entry.getKey())).append(":\n")
+                    .append("                return ").append(row).append(";\n");
+            this.renderRow(init, row++, entry.getValue());
+        }
+
+        source.append("    private static int indexOf").append(model).append("(String property) {\n")
+                .append("        // ").append(rows.className).append('\n')
+                .append("        switch (property) {\n").append(index)
+                .append("            default:\n                return -1;\n        }\n    }\n\n");
+        source.append("    private static void model").append(model).append("() {\n").append(init).append("    }\n\n");
+
+        return row;
+    }
+
+    /**
+     * The initializer of a row, {@code null} values: the default metadata.
+     */
+    private void renderRow(StringBuilder init, int row, AutoAnnotationValues values) {
+        if (null == values) {
+            init.append("        VALUES[").append(row).append("] = new String[").append(COLUMNS.length).append("];\n");
+
+            return;
+        }
+
+        AutoAnnotationSchema schema = values.schema();
+        init.append("        VALUES[").append(row).append("] = new String[]{");
+        for (int i = 0; i < COLUMNS.length; i++) {
+            String value = this.string(values, schema, COLUMNS[i]);
+            init.append(0 == i ? "" : ", ").append(null == value ? "null" : this.literal(value));
+        }
+        init.append("};\n");
+
+        int flags = (this.bool(values, schema, "required") ? REQUIRED : 0)
+                | (this.determineIsReadOnly(values, schema) ? READ_ONLY : 0)
+                | (this.bool(values, schema, "hidden") ? HIDDEN : 0);
+        if (0 != flags) {
+            init.append("        FLAGS[").append(row).append("] = ").append(flags).append(";\n");
+        }
+        int slot = this.determineSlot(schema, "position");
+        if (slot >= 0 && values.isSet(slot) && 0 != values.integer(slot)) {
+            init.append("        POSITIONS[").append(row).append("] = ").append(values.integer(slot)).append(";\n");
+        }
+    }
+
+    private String renderPlugin(String packageName) {
+        return "package " + packageName + ";\n\n"
+                + "import com.fasterxml.jackson.databind.introspect.AnnotatedField;\n"
+                + "import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;\n"
+                + "import org.springframework.core.annotation.Order;\n"
+                + "import org.springframework.stereotype.Component;\n"
+                + "import springfox.documentation.spi.DocumentationType;\n"
+                + "import " + SPRINGFOX_PLUGIN + ";\n"
+                + "import springfox.documentation.spi.schema.contexts.ModelPropertyContext;\n"
+                + "import " + SPRINGFOX_PLUGIN_SUPPORT + ";\n"
+                + "import " + SPRINGFOX_MODEL_PROPERTIES + ";\n\n"
+                + "/**\n * Applies the {@link " + REGISTRY_NAME + "} to the springfox model properties, generated by auto-swagger.\n"
+                + " * <p>\n * Runs after the reflective springfox {@code @ApiModelProperty} plugin, which it does not replace: it supplies\n"
+                + " * the metadata when the class files carry none (stripped proxies, source mode).\n"
+                + " * Default metadata ({@code false}, {@code 0}, {@code null}) is left to the other plugins.\n */\n"
+                + "@Component\n"
+                + "@Order(SwaggerPluginSupport.SWAGGER_PLUGIN_ORDER + 1)\n"
+                + "public class " + PLUGIN_NAME + " implements ModelPropertyBuilderPlugin {\n\n"
+                + "    @Override\n"
+                + "    public void apply(ModelPropertyContext context) {\n"
+                + "        if (!context.getBeanPropertyDefinition().isPresent()) {\n"
+                + "            return;\n"
+                + "        }\n\n"
+                + "        BeanPropertyDefinition property = context.getBeanPropertyDefinition().get();\n"
+                + "        AnnotatedField field = property.getField();\n"
+                + "        int index = null != field ? " + REGISTRY_NAME + ".indexOf(field.getDeclaringClass().getName(), field.getName()) : -1;\n"
+                + "        if (index < 0) {\n"
+                + "            return;\n"
+                + "        }\n\n"
+                + "        if (" + REGISTRY_NAME + ".required(index)) {\n"
+                + "            context.getBuilder().required(true);\n"
+                + "        }\n"
+                + "        if (" + REGISTRY_NAME + ".readOnly(index)) {\n"
+                + "            context.getBuilder().readOnly(true);\n"
+                + "        }\n"
+                + "        if (" + REGISTRY_NAME + ".hidden(index)) {\n"
+                + "            context.getBuilder().isHidden(true);\n"
+                + "        }\n"
+                + "        if (0 != " + REGISTRY_NAME + ".position(index)) {\n"
+                + "            context.getBuilder().position(" + REGISTRY_NAME + ".position(index));\n"
+                + "        }\n"
+                + "        if (null != " + REGISTRY_NAME + ".description(index)) {\n"
+                + "            context.getBuilder().description(" + REGISTRY_NAME + ".description(index));\n"
+                + "        }\n"
+                + "        if (null != " + REGISTRY_NAME + ".example(index)) {\n"
+                + "            context.getBuilder().example(" + REGISTRY_NAME + ".example(index));\n"
+                + "        }\n"
+                + "        if (null != " + REGISTRY_NAME + ".allowableValues(index)) {\n"
+                + "            context.getBuilder().allowableValues(ApiModelProperties.allowableValueFromString(" + REGISTRY_NAME + ".allowableValues(index)));\n"
+                + "        }\n"
+                + "    }\n\n"
+                + "    @Override\n"
+                + "    public boolean supports(DocumentationType delimiter) {\n"
+                + "        return SwaggerPluginSupport.pluginDoesApply(delimiter);\n"
+                + "    }\n"
+                + "}\n";
+    }
+
+    // ----------------------------------------------------------------
+
+    private String string(AutoAnnotationValues values, AutoAnnotationSchema schema, String attribute) {
+        int slot = this.determineSlot(schema, attribute);
+        if (slot < 0 || !values.isSet(slot)) {
+            return null;
+        }
+
+        String value = values.string(slot);
+
+        return value.isEmpty() ? null : value;
+    }
+
+    private boolean bool(AutoAnnotationValues values, AutoAnnotationSchema schema, String attribute) {
+        int slot = this.determineSlot(schema, attribute);
+
+        return slot >= 0 && values.isSet(slot) && values.bool(slot);
+    }
+
+    private boolean determineIsReadOnly(AutoAnnotationValues values, AutoAnnotationSchema schema) {
+        if (this.bool(values, schema, "readOnly")) {
+            return true;
+        }
+
+        int slot = this.determineSlot(schema, "accessMode");
+
+        return slot >= 0 && values.isSet(slot) && "READ_ONLY".contentEquals(values.enumConstant(slot).getSimpleName());
+    }
+
+    /**
+     * The slot of the attribute, {@code -1} for attributes older {@code swagger-annotations} versions lack.
+     */
+    private int determineSlot(AutoAnnotationSchema schema, String attribute) {
+        for (int i = 0; i < schema.size(); i++) {
+            if (schema.attribute(i).equals(attribute)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private String literal(String value) {
+        return this.context.elements().getConstantExpression(value);
+    }
+
+    private void handleWrite(String packageName, String simpleName, String source, TypeElement[] originatingElements) {
+        String fullQualifiedName = packageName + "." + simpleName;
+        try {
+            JavaFileObject file = this.context.filer().createSourceFile(fullQualifiedName, originatingElements);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            this.context.messager().printMessage(Diagnostic.Kind.ERROR,
+                    "auto-swagger: unable to write " + fullQualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Model {
+
+        private final String className;
+        private final TypeElement element;
+        private final String packageName;
+        private final Map<String, AutoAnnotationValues> properties = new LinkedHashMap<>();
+
+        Model(String className, TypeElement element, String packageName) {
+            this.className = className;
+            this.element = element;
+            this.packageName = packageName;
+        }
+    }
+}
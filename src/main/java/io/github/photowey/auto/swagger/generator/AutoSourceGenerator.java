@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.generator;
+
+import io.github.photowey.auto.swagger.annotation.AutoApi;
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.annotation.AutoSwagger;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoGlobFilter;
+import io.github.photowey.auto.swagger.metrics.AutoBuilderMetrics;
+import io.github.photowey.auto.swagger.metrics.AutoRoundMetrics;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * {@code AutoSourceGenerator}
+ * The source mode: every model class carrying proxy annotations gets a companion {@code XxxSwaggerMixin} source
+ * holding the Swagger annotations, the user trees are left untouched. Controllers get none: springfox reads
+ * {@code @Api} from the controller class only.
+ * <p>
+ * Only {@code javax.lang.model} and the {@link javax.annotation.processing.Filer} are used: no javac internals,
+ * every mixin has its class as the single originating element, so the processor stays isolating.
+ * <p>
+ * Model mixins can be registered as Jackson mix-ins, {@code swagger-core} then reads their annotations:
+ * <pre>
+ * objectMapper.addMixIn(UserDto.class, UserDtoSwaggerMixin.class);
+ * </pre>
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoSourceGenerator {
+
+    private static final String SOURCE_MODE_BUILDER = "AutoSourceGenerator";
+
+    private final AutoContext context;
+    private final AutoAnnotationRenderer renderer;
+    private final Set<String> generated = new HashSet<>();
+
+    public AutoSourceGenerator(AutoContext context) {
+        this.context = context;
+        this.renderer = new AutoAnnotationRenderer(context.elements(), context.types());
+    }
+
+    public boolean generate(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        Set<TypeElement> owners = this.determineOwners(annotations, env);
+        if (owners.isEmpty()) {
+            return false;
+        }
+        if (!this.context.options().enabled()) {
+            return true;
+        }
+
+        long start = System.nanoTime();
+        AutoRoundMetrics round = this.context.metrics().beginRound(owners.size());
+        AutoBuilderMetrics metrics = round.builder(SOURCE_MODE_BUILDER);
+        for (TypeElement owner : owners) {
+            metrics.visited();
+            this.generate(owner, metrics);
+        }
+        metrics.elapsed(System.nanoTime() - start);
+        round.elapsed(System.nanoTime() - start);
+
+        return true;
+    }
+
+    // ----------------------------------------------------------------
+
+    private Set<TypeElement> determineOwners(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        AutoGlobFilter filter = this.context.options().filter();
+        Set<TypeElement> owners = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations) {
+            if (null == annotation.getAnnotation(AutoSwagger.class) || this.determineIsApi(annotation)) {
+                continue;
+            }
+
+            for (Element element : env.getElementsAnnotatedWith(annotation)) {
+                Element owner = element.getKind().isField() ? element.getEnclosingElement() : element;
+                if (!(owner instanceof TypeElement)) {
+                    continue;
+                }
+
+                TypeElement type = (TypeElement) owner;
+                if (filter.isEmpty() || filter.determineIsIncluded(type.getQualifiedName())) {
+                    owners.add(type);
+                }
+            }
+        }
+
+        return owners;
+    }
+
+    private void generate(TypeElement owner, AutoBuilderMetrics metrics) {
+        String packageName = this.context.elements().getPackageOf(owner).getQualifiedName().toString();
+        String mixinName = this.determineMixinName(owner);
+        String fullQualifiedName = packageName.isEmpty() ? mixinName : packageName + "." + mixinName;
+        if (!this.generated.add(fullQualifiedName)) {
+            return;
+        }
+
+        StringBuilder source = new StringBuilder(512);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n * Swagger metadata of {@link ").append(owner.getQualifiedName()).append("}, generated by auto-swagger.\n */\n");
+
+        int annotations = this.handleAnnotations(owner, "", source);
+        source.append("public abstract class ").append(mixinName).append(" {\n");
+
+        boolean apiModel = null != owner.getAnnotation(AutoApiModel.class);
+        for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements())) {
+            if (ElementKind.FIELD != field.getKind() || field.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+
+            StringBuilder declaration = new StringBuilder();
+            int fieldAnnotations = this.handleAnnotations(field, "    ", declaration);
+            if (0 == fieldAnnotations && apiModel && !this.determineIsAnnotated(field, AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME)) {
+                // Every field of an @AutoApiModel class is a model property
+                declaration.append("    ").append(this.renderer.render(AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME)).append('\n');
+                fieldAnnotations++;
+            }
+            if (0 == fieldAnnotations) {
+                continue;
+            }
+
+            annotations += fieldAnnotations;
+            source.append('\n').append(declaration)
+                    .append("    private ").append(this.determineFieldType(field.asType(), packageName)).append(' ').append(field.getSimpleName()).append(";\n");
+        }
+        source.append("}\n");
+
+        this.handleWrite(owner, fullQualifiedName, source);
+        metrics.synthesized(annotations);
+    }
+
+    /**
+     * {@code @AutoApi}: springfox reads {@code @Api} from the controller class only, never from a mixin.
+     */
+    private boolean determineIsApi(TypeElement annotationType) {
+        return AutoApi.class.getName().contentEquals(annotationType.getQualifiedName());
+    }
+
+    /**
+     * Render the proxy annotations of the element, unless the Swagger annotation is already written by hand.
+     */
+    private int handleAnnotations(Element element, String indent, StringBuilder source) {
+        int annotations = 0;
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (null == annotationType.getAnnotation(AutoSwagger.class) || this.determineIsApi(annotationType)) {
+                continue;
+            }
+
+            String target = AutoConstants.determineSwaggerTypeName(annotationType.getQualifiedName().toString());
+            if (this.determineIsAnnotated(element, target)) {
+                continue;
+            }
+
+            source.append(indent).append(this.renderer.render(mirror)).append('\n');
+            annotations++;
+        }
+
+        return annotations;
+    }
+
+    /**
+     * The erasure of the field type as accessible from the package of the mixin: Jackson matches mix-in fields by name,
+     * an inaccessible type ({@code private} nested class) is replaced by its closest accessible supertype.
+     */
+    private String determineFieldType(TypeMirror type, String packageName) {
+        if (type.getKind().isPrimitive()) {
+            // By kind: the string carries the type use annotations
+            return type.getKind().name().toLowerCase();
+        }
+        if (TypeKind.ARRAY == type.getKind()) {
+            return this.determineFieldType(((ArrayType) type).getComponentType(), packageName) + "[]";
+        }
+
+        Deque<TypeMirror> candidates = new ArrayDeque<>();
+        candidates.add(this.context.types().erasure(type));
+        while (!candidates.isEmpty()) {
+            TypeMirror candidate = candidates.poll();
+            if (TypeKind.DECLARED != candidate.getKind()) {
+                continue;
+            }
+
+            TypeElement element = (TypeElement) ((DeclaredType) candidate).asElement();
+            if (this.determineIsAccessible(element, packageName)) {
+                return element.getQualifiedName().toString();
+            }
+            for (TypeMirror supertype : this.context.types().directSupertypes(candidate)) {
+                candidates.add(this.context.types().erasure(supertype));
+            }
+        }
+
+        return Object.class.getName();
+    }
+
+    private boolean determineIsAccessible(TypeElement type, String packageName) {
+        boolean samePackage = this.context.elements().getPackageOf(type).getQualifiedName().contentEquals(packageName);
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!modifiers.contains(Modifier.PUBLIC) && !samePackage)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean determineIsAnnotated(Element element, String fullQualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(fullQualifiedName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * {@code UserDto} -> {@code UserDtoSwaggerMixin}, {@code Outer.Inner} -> {@code Outer_InnerSwaggerMixin}.
+     */
+    private String determineMixinName(TypeElement owner) {
+        StringBuilder name = new StringBuilder(owner.getSimpleName());
+        for (Element enclosing = owner.getEnclosingElement(); !(enclosing instanceof PackageElement); enclosing = enclosing.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+        }
+
+        return name.append(AutoConstants.AUTO_SWAGGER_MIXIN_SUFFIX).toString();
+    }
+
+    private void handleWrite(TypeElement owner, String fullQualifiedName, StringBuilder source) {
+        try {
+            JavaFileObject file = this.context.filer().createSourceFile(fullQualifiedName, owner);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            this.context.messager().printMessage(Diagnostic.Kind.ERROR,
+                    "auto-swagger: unable to write " + fullQualifiedName + ": " + e.getMessage(), owner);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.metrics;
+
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeScanner;
+
+/**
+ * {@code AutoBuilderMetrics}
+ * The counters of one builder during one round.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoBuilderMetrics {
+
+    private final String builder;
+    private final boolean countNodes;
+
+    private long elementsVisited;
+    private long annotationsSynthesized;
+    private long importsAdded;
+    private long treeNodesAllocated;
+    private long wallTimeNanos;
+
+    AutoBuilderMetrics(String builder, boolean countNodes) {
+        this.builder = builder;
+        this.countNodes = countNodes;
+    }
+
+    public void visited() {
+        this.elementsVisited++;
+    }
+
+    public void visited(int elements) {
+        this.elementsVisited += elements;
+    }
+
+    public void synthesized(JCTree annotation) {
+        this.annotationsSynthesized++;
+        this.allocated(annotation);
+    }
+
+    /**
+     * Count annotations written into generated sources, no tree is involved.
+     */
+    public void synthesized(int annotations) {
+        this.annotationsSynthesized += annotations;
+    }
+
+    public void imported(JCTree ipt) {
+        this.importsAdded++;
+        this.allocated(ipt);
+    }
+
+    public void elapsed(long nanos) {
+        this.wallTimeNanos += nanos;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void allocated(JCTree tree) {
+        if (this.countNodes) {
+            NodeCounter counter = new NodeCounter();
+            counter.scan(tree);
+            this.treeNodesAllocated += counter.nodes;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    public String builder() {
+        return this.builder;
+    }
+
+    public long elementsVisited() {
+        return this.elementsVisited;
+    }
+
+    public long annotationsSynthesized() {
+        return this.annotationsSynthesized;
+    }
+
+    public long importsAdded() {
+        return this.importsAdded;
+    }
+
+    public long treeNodesAllocated() {
+        return this.treeNodesAllocated;
+    }
+
+    public long wallTimeNanos() {
+        return this.wallTimeNanos;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class NodeCounter extends TreeScanner {
+
+        private long nodes;
+
+        @Override
+        public void scan(JCTree tree) {
+            if (null != tree) {
+                this.nodes++;
+                super.scan(tree);
+            }
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code AutoMetrics}
+ * Compile-time instrumentation of the processor: elements visited, annotations synthesized,
+ * imports added, tree nodes allocated and wall time, per round and per builder.
+ * <p>
+ * Counters are always maintained, they are plain increments. Tree nodes are only counted when
+ * a report or a summary was asked for.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoMetrics {
+
+    private static final AutoBuilderMetrics NOOP = new AutoBuilderMetrics("", false);
+
+    private final boolean enabled;
+    private final List<AutoRoundMetrics> rounds = new ArrayList<>();
+
+    private int round;
+    private AutoBuilderMetrics current = NOOP;
+
+    public AutoMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean enabled() {
+        return this.enabled;
+    }
+
+    public AutoRoundMetrics beginRound(int units) {
+        AutoRoundMetrics metrics = new AutoRoundMetrics(++this.round, units, this.enabled);
+        if (this.enabled) {
+            this.rounds.add(metrics);
+        }
+
+        return metrics;
+    }
+
+    /**
+     * The builder currently running, the target of every counter update.
+     */
+    public AutoBuilderMetrics current() {
+        return this.current;
+    }
+
+    public void current(AutoBuilderMetrics current) {
+        this.current = null != current ? current : NOOP;
+    }
+
+    // ----------------------------------------------------------------
+
+    public String toJson() {
+        StringBuilder json = new StringBuilder(256 + this.rounds.size() * 512);
+        json.append("{\n  \"rounds\": [");
+        for (int i = 0; i < this.rounds.size(); i++) {
+            AutoRoundMetrics round = this.rounds.get(i);
+            json.append(i > 0 ? "," : "").append("\n    {")
+                    .append("\"round\": ").append(round.round())
+                    .append(", \"units\": ").append(round.units())
+                    .append(", \"wallTimeNanos\": ").append(round.wallTimeNanos())
+                    .append(", \"builders\": [");
+            for (int j = 0; j < round.builders().size(); j++) {
+                AutoBuilderMetrics builder = round.builders().get(j);
+                json.append(j > 0 ? ", " : "").append("{")
+                        .append("\"builder\": \"").append(builder.builder()).append("\"")
+                        .append(", \"elementsVisited\": ").append(builder.elementsVisited())
+                        .append(", \"annotationsSynthesized\": ").append(builder.annotationsSynthesized())
+                        .append(", \"importsAdded\": ").append(builder.importsAdded())
+                        .append(", \"treeNodesAllocated\": ").append(builder.treeNodesAllocated())
+                        .append(", \"wallTimeNanos\": ").append(builder.wallTimeNanos())
+                        .append("}");
+            }
+            json.append("]}");
+        }
+        json.append(this.rounds.isEmpty() ? "]\n}\n" : "\n  ]\n}\n");
+
+        return json.toString();
+    }
+
+    public String toSummary() {
+        long elements = 0, annotations = 0, imports = 0, nodes = 0, nanos = 0;
+        for (AutoRoundMetrics round : this.rounds) {
+            nanos += round.wallTimeNanos();
+            for (AutoBuilderMetrics builder : round.builders()) {
+                elements += builder.elementsVisited();
+                annotations += builder.annotationsSynthesized();
+                imports += builder.importsAdded();
+                nodes += builder.treeNodesAllocated();
+            }
+        }
+
+        return String.format(Locale.ROOT,
+                "auto-swagger: %d round(s), %d element(s) visited, %d annotation(s) synthesized, %d import(s) added, %d tree node(s) allocated in %.3f ms",
+                this.rounds.size(), elements, annotations, imports, nodes, nanos / 1_000_000D);
+    }
+}
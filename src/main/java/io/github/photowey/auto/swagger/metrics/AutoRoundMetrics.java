@@ -0,0 +1,71 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code AutoRoundMetrics}
+ * The metrics of one processing round, per builder.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoRoundMetrics {
+
+    private final int round;
+    private final int units;
+    private final boolean countNodes;
+    private final List<AutoBuilderMetrics> builders = new ArrayList<>(4);
+
+    private long wallTimeNanos;
+
+    AutoRoundMetrics(int round, int units, boolean countNodes) {
+        this.round = round;
+        this.units = units;
+        this.countNodes = countNodes;
+    }
+
+    public AutoBuilderMetrics builder(String builder) {
+        AutoBuilderMetrics metrics = new AutoBuilderMetrics(builder, this.countNodes);
+        this.builders.add(metrics);
+
+        return metrics;
+    }
+
+    public void elapsed(long nanos) {
+        this.wallTimeNanos += nanos;
+    }
+
+    public int round() {
+        return this.round;
+    }
+
+    public int units() {
+        return this.units;
+    }
+
+    public List<AutoBuilderMetrics> builders() {
+        return Collections.unmodifiableList(this.builders);
+    }
+
+    public long wallTimeNanos() {
+        return this.wallTimeNanos;
+    }
+}
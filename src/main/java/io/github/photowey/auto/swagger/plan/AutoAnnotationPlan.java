@@ -0,0 +1,76 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.plan;
+
+/**
+ * {@code AutoAnnotationPlan}
+ * The immutable outcome of the analysis of an {@link AutoFieldCandidate}, applied to the tree afterwards.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoAnnotationPlan {
+
+    private final AutoFieldCandidate candidate;
+    private final Action action;
+    private final int[] slots;
+
+    AutoAnnotationPlan(AutoFieldCandidate candidate, Action action, int[] slots) {
+        this.candidate = candidate;
+        this.action = action;
+        this.slots = slots;
+    }
+
+    public AutoFieldCandidate candidate() {
+        return this.candidate;
+    }
+
+    public Action action() {
+        return this.action;
+    }
+
+    /**
+     * The proxy attribute slots to emit, only for {@link Action#MAP}.
+     *
+     * @return the slots
+     */
+    public int[] slots() {
+        return this.slots.clone();
+    }
+
+    // ----------------------------------------------------------------
+
+    public enum Action {
+        /**
+         * Translate the proxy into the Swagger annotation.
+         */
+        MAP,
+        /**
+         * Add the Swagger annotation without any attribute.
+         */
+        BARE,
+        /**
+         * A hand-written Swagger annotation exists: only remove the proxy.
+         */
+        KEEP,
+        /**
+         * Nothing to do.
+         */
+        SKIP,
+        ;
+    }
+}
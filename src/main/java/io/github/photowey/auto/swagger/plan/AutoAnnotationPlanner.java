@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.plan;
+import io.github.photowey.auto.swagger.builder.AutoAnnotationMapper;
+import io.github.photowey.auto.swagger.context.AutoContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code AutoAnnotationPlanner}
+ * The side-effect-free analysis phase: turns {@link AutoFieldCandidate}s into {@link AutoAnnotationPlan}s.
+ * <p>
+ * Runs on the javac thread: matching the annotations may complete symbols.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationPlanner {
+
+    private final AutoContext context;
+    private final AutoAnnotationMapper mapper;
+
+    public AutoAnnotationPlanner(AutoContext context, AutoAnnotationMapper mapper) {
+        this.context = context;
+        this.mapper = mapper;
+    }
+
+    public List<AutoAnnotationPlan> plan(List<AutoFieldCandidate> candidates) {
+        List<AutoAnnotationPlan> plans = new ArrayList<>(candidates.size());
+        for (AutoFieldCandidate candidate : candidates) {
+            plans.add(this.plan(candidate));
+        }
+
+        return plans;
+    }
+
+    public AutoAnnotationPlan plan(AutoFieldCandidate candidate) {
+        boolean annotated = this.mapper.matcher().matchesAny(candidate.variable().mods);
+        if (null == candidate.values()) {
+            return new AutoAnnotationPlan(candidate, annotated ? AutoAnnotationPlan.Action.SKIP : AutoAnnotationPlan.Action.BARE, null);
+        }
+        if (annotated) {
+            // Keep the hand-written annotation
+            return new AutoAnnotationPlan(candidate, AutoAnnotationPlan.Action.KEEP, null);
+        }
+
+        return new AutoAnnotationPlan(candidate, AutoAnnotationPlan.Action.MAP, this.mapper.slots(candidate.snapshot()));
+    }
+}
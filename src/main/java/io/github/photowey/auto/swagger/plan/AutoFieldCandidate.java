@@ -0,0 +1,64 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.plan;
+
+import com.sun.tools.javac.tree.JCTree;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
+
+/**
+ * {@code AutoFieldCandidate}
+ * A field waiting for its {@code @ApiModelProperty}, with everything the analysis needs copied out of javac.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoFieldCandidate {
+
+    private final AutoCompilationUnit unit;
+    private final JCTree.JCVariableDecl variable;
+    private final AutoAnnotationValues values;
+    private final Object[] snapshot;
+
+    public AutoFieldCandidate(AutoCompilationUnit unit, JCTree.JCVariableDecl variable, AutoAnnotationValues values, Object[] snapshot) {
+        this.unit = unit;
+        this.variable = variable;
+        this.values = values;
+        this.snapshot = snapshot;
+    }
+
+    public AutoCompilationUnit unit() {
+        return this.unit;
+    }
+
+    public JCTree.JCVariableDecl variable() {
+        return this.variable;
+    }
+
+    /**
+     * The proxy values.
+     *
+     * @return the values, or {@code null} if the field carries no {@code @AutoApiModelProperty}
+     */
+    public AutoAnnotationValues values() {
+        return this.values;
+    }
+
+    Object[] snapshot() {
+        return this.snapshot;
+    }
+}
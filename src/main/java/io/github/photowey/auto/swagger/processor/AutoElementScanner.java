@@ -0,0 +1,91 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.processor;
+
+import io.github.photowey.auto.swagger.builder.AutoBuilder;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementScanner8;
+import java.util.Map;
+
+/**
+ * {@code AutoElementScanner}
+ * Visits the classes and fields of a root element once and hands every element carrying
+ * an {@code @AutoSwagger} meta-annotated annotation to the matching {@link AutoBuilder}.
+ * <p>
+ * Methods are not descended into, proxy annotations never target them. Elements unknown to the JDK 8 visitor,
+ * the components of JDK 16+ records, are skipped.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoElementScanner extends ElementScanner8<Void, AutoCompilationUnit> {
+
+    private final Map<TypeElement, AutoBuilder> dispatchers;
+
+    public AutoElementScanner(Map<TypeElement, AutoBuilder> dispatchers) {
+        this.dispatchers = dispatchers;
+    }
+
+    @Override
+    public Void visitType(TypeElement element, AutoCompilationUnit unit) {
+        // Interfaces: @AutoApi on Feign / Spring controller contracts
+        if (element.getKind().isClass() || element.getKind().isInterface()) {
+            this.dispatch(element, unit);
+        }
+
+        return super.visitType(element, unit);
+    }
+
+    @Override
+    public Void visitVariable(VariableElement element, AutoCompilationUnit unit) {
+        if (element.getKind().isField()) {
+            this.dispatch(element, unit);
+        }
+
+        return null;
+    }
+
+    @Override
+    public Void visitExecutable(ExecutableElement element, AutoCompilationUnit unit) {
+        return null;
+    }
+
+    /**
+     * Record components (JDK 16+): the JDK 8 visitor throws {@code UnknownElementException} by default.
+     */
+    @Override
+    public Void visitUnknown(Element element, AutoCompilationUnit unit) {
+        return null;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void dispatch(Element element, AutoCompilationUnit unit) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            AutoBuilder builder = this.dispatchers.get((TypeElement) mirror.getAnnotationType().asElement());
+            if (null != builder) {
+                unit.add(builder, element);
+            }
+        }
+    }
+}
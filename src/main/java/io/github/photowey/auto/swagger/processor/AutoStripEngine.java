@@ -0,0 +1,203 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.processor;
+
+import com.sun.source.tree.ImportTree;
+import com.sun.source.tree.Tree;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeScanner;
+import com.sun.tools.javac.util.ListBuffer;
+import com.sun.tools.javac.util.Name;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoAnnotationMatcher;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * {@code AutoStripEngine}
+ * The disabled mode: removes every proxy annotation of a compilation unit, on classes and fields alike,
+ * and the single-type imports of proxy types no longer referenced, in one pass over the unit.
+ * With the {@code swagger} strip profile the hand-written Swagger annotations and imports go as well.
+ * <p>
+ * Only units holding proxy annotations are handed in, the others are never opened.
+ * Wildcard imports are kept: they compile without the proxies being used.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoStripEngine {
+
+    private final String[] importPrefixes;
+
+    /**
+     * @param stripSwagger whether the hand-written {@code io.swagger.annotations.*} are stripped too
+     */
+    public AutoStripEngine(boolean stripSwagger) {
+        this.importPrefixes = stripSwagger
+                ? new String[]{
+                AutoConstants.AUTO_SWAGGER_ANNOTATION_PACKAGE + ".",
+                AutoConstants.AUTO_SWAGGER_SHARED_PACKAGE_PREFIX,
+                AutoConstants.SWAGGER_ANNOTATION_PACKAGE + "."}
+                : new String[]{
+                AutoConstants.AUTO_SWAGGER_ANNOTATION_PACKAGE + ".",
+                AutoConstants.AUTO_SWAGGER_SHARED_PACKAGE_PREFIX};
+    }
+
+    /**
+     * Strip the unit.
+     *
+     * @param unit     the compilation unit
+     * @param proxies  the matchers of the annotations to strip
+     * @return the number of annotations removed
+     */
+    public int strip(JCTree.JCCompilationUnit unit, List<AutoAnnotationMatcher> proxies) {
+        StripScanner scanner = new StripScanner(proxies, this.determineProxyImports(unit));
+        for (JCTree def : unit.defs) {
+            if (!(def instanceof JCTree.JCImport)) {
+                scanner.scan(def);
+            }
+        }
+
+        if (!scanner.imports.isEmpty() && scanner.imports.size() > scanner.referenced.size()) {
+            this.handleImportsRemove(unit, scanner);
+        }
+
+        return scanner.removed;
+    }
+
+    // ----------------------------------------------------------------
+
+    private Set<Name> determineProxyImports(JCTree.JCCompilationUnit unit) {
+        Set<Name> imports = null;
+        for (JCTree.JCImport ipt : unit.getImports()) {
+            Name name = this.determineProxyImport(ipt);
+            if (null != name) {
+                if (null == imports) {
+                    imports = Collections.newSetFromMap(new IdentityHashMap<>(4));
+                }
+                imports.add(name);
+            }
+        }
+
+        return null != imports ? imports : Collections.emptySet();
+    }
+
+    /**
+     * The simple name of a single-type import of a strippable type, {@code null} for any other import.
+     */
+    private Name determineProxyImport(JCTree.JCImport ipt) {
+        // Through the com.sun.source interfaces: the javac field type differs across JDK releases
+        Tree identifier = ((ImportTree) ipt).getQualifiedIdentifier();
+        if (ipt.isStatic() || !(identifier instanceof JCTree.JCFieldAccess)) {
+            return null;
+        }
+
+        JCTree.JCFieldAccess qualid = (JCTree.JCFieldAccess) identifier;
+        if (qualid.name == qualid.name.table.names.asterisk) {
+            return null;
+        }
+
+        String qualifiedName = qualid.toString();
+        for (String prefix : this.importPrefixes) {
+            if (qualifiedName.startsWith(prefix)) {
+                return qualid.name;
+            }
+        }
+
+        return null;
+    }
+
+    private void handleImportsRemove(JCTree.JCCompilationUnit unit, StripScanner scanner) {
+        ListBuffer<JCTree> defs = new ListBuffer<>();
+        for (JCTree def : unit.defs) {
+            if (def instanceof JCTree.JCImport) {
+                Name name = this.determineProxyImport((JCTree.JCImport) def);
+                if (null != name && !scanner.referenced.contains(name)) {
+                    continue;
+                }
+            }
+            defs.append(def);
+        }
+
+        unit.defs = defs.toList();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class StripScanner extends TreeScanner {
+
+        private final List<AutoAnnotationMatcher> proxies;
+        private final Set<Name> imports;
+        private final Set<Name> referenced = Collections.newSetFromMap(new IdentityHashMap<>(4));
+        private int removed;
+
+        StripScanner(List<AutoAnnotationMatcher> proxies, Set<Name> imports) {
+            this.proxies = proxies;
+            this.imports = imports;
+        }
+
+        @Override
+        public void visitModifiers(JCTree.JCModifiers tree) {
+            ListBuffer<JCTree.JCAnnotation> kept = null;
+            com.sun.tools.javac.util.List<JCTree.JCAnnotation> annotations = tree.annotations;
+            for (com.sun.tools.javac.util.List<JCTree.JCAnnotation> it = annotations; it.nonEmpty(); it = it.tail) {
+                JCTree.JCAnnotation annotation = it.head;
+                if (this.determineIsProxy(annotation)) {
+                    if (null == kept) {
+                        // Copy the annotations kept so far, only once something is removed
+                        kept = new ListBuffer<>();
+                        for (com.sun.tools.javac.util.List<JCTree.JCAnnotation> prefix = annotations; prefix != it; prefix = prefix.tail) {
+                            kept.append(prefix.head);
+                        }
+                    }
+                    this.removed++;
+
+                    continue;
+                }
+
+                if (null != kept) {
+                    kept.append(annotation);
+                }
+                this.scan(annotation);
+            }
+
+            if (null != kept) {
+                tree.annotations = kept.toList();
+            }
+        }
+
+        @Override
+        public void visitIdent(JCTree.JCIdent tree) {
+            if (this.imports.contains(tree.name)) {
+                this.referenced.add(tree.name);
+            }
+        }
+
+        private boolean determineIsProxy(JCTree.JCAnnotation annotation) {
+            for (AutoAnnotationMatcher proxy : this.proxies) {
+                if (proxy.matches(annotation)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,484 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.processor;
+
+import com.google.auto.service.AutoService;
+import com.sun.source.util.Trees;
+import com.sun.tools.javac.processing.JavacProcessingEnvironment;
+import com.sun.tools.javac.tree.JCTree;
+import com.sun.tools.javac.tree.TreeMaker;
+import com.sun.tools.javac.util.Context;
+import com.sun.tools.javac.util.Names;
+import io.github.photowey.auto.swagger.annotation.AutoApi;
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.annotation.AutoSwagger;
+import io.github.photowey.auto.swagger.builder.AutoApiBuilder;
+import io.github.photowey.auto.swagger.builder.AutoApiModelBuilder;
+import io.github.photowey.auto.swagger.builder.AutoApiModelPropertyBuilder;
+import io.github.photowey.auto.swagger.builder.AutoBuilder;
+import io.github.photowey.auto.swagger.compat.AutoJavacCompat;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoAnnotationMatcher;
+import io.github.photowey.auto.swagger.context.AutoCompilationUnit;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoGlobFilter;
+import io.github.photowey.auto.swagger.context.AutoOptions;
+import io.github.photowey.auto.swagger.generator.AutoRegistryGenerator;
+import io.github.photowey.auto.swagger.generator.AutoSourceGenerator;
+import io.github.photowey.auto.swagger.metrics.AutoBuilderMetrics;
+import io.github.photowey.auto.swagger.metrics.AutoMetrics;
+import io.github.photowey.auto.swagger.metrics.AutoRoundMetrics;
+import io.github.photowey.auto.swagger.spec.AutoApiPaths;
+import io.github.photowey.auto.swagger.spec.AutoModelDefinitions;
+import io.github.photowey.auto.swagger.spec.AutoSpecShards;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code AutoSwaggerProcessor}
+ * The single entry point of the {@code @AutoSwagger} proxy annotations.
+ * <p>
+ * Every round the root elements are visited once, the annotated elements are grouped by
+ * compilation unit and handed to the {@link AutoBuilder} registered for their annotation.
+ * Disabled, the {@link AutoStripEngine} removes the proxies instead, unit by unit.
+ * <p>
+ * In source mode ({@code io.github.photowey.auto.swagger.annotation.mode=source}) the trees are left untouched
+ * and the {@link AutoSourceGenerator} writes companion sources instead.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+@AutoService(Processor.class)
+public class AutoSwaggerProcessor extends AbstractProcessor {
+
+    private static final Set<String> SUPPORTED_ANNOTATION_TYPES = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            AutoApi.class.getName(),
+            AutoApiModel.class.getName(),
+            AutoApiModelProperty.class.getName()
+    )));
+
+    private AutoContext context;
+    private AutoSourceGenerator sourceGenerator;
+    private AutoModelDefinitions definitions;
+    private AutoApiPaths paths;
+    private AutoRegistryGenerator registry;
+    private AutoStripEngine stripEngine;
+    private final Map<String, AutoBuilder> builders = new LinkedHashMap<>(4);
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+
+        Filer filer = processingEnv.getFiler();
+        Messager messager = processingEnv.getMessager();
+        Types types = processingEnv.getTypeUtils();
+        Elements elements = processingEnv.getElementUtils();
+        AutoOptions options = AutoOptions.load(processingEnv);
+
+        AutoContext.AutoContextBuilder builder = AutoContext.builder()
+                .filer(filer)
+                .messager(messager)
+                .types(types)
+                .elements(elements)
+                .options(options)
+                .metrics(new AutoMetrics(options.metrics() || options.metricsSummary()));
+
+        if (options.sourceMode()) {
+            // No javac internals at all
+            this.context = builder.build();
+            this.sourceGenerator = new AutoSourceGenerator(this.context);
+        } else {
+            this.initTreeMode(builder);
+        }
+
+        if (options.definitions() || options.paths()) {
+            this.definitions = new AutoModelDefinitions(this.context);
+        }
+        if (options.paths()) {
+            this.paths = new AutoApiPaths(this.context, this.definitions);
+        }
+        if (options.registry()) {
+            this.registry = new AutoRegistryGenerator(this.context);
+        }
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        if (null != this.stripEngine && this.context.options().stripSwagger()) {
+            Set<String> annotationTypes = new LinkedHashSet<>(SUPPORTED_ANNOTATION_TYPES);
+            annotationTypes.add(AutoConstants.SWAGGER_ANNOTATION_PACKAGE + ".*");
+
+            return annotationTypes;
+        }
+
+        return SUPPORTED_ANNOTATION_TYPES;
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new LinkedHashSet<>(AutoOptions.SUPPORTED_OPTIONS);
+        if (null != this.context) {
+            // Registered as a dynamic processor with Gradle
+            options.add(this.context.options().aggregating()
+                    ? AutoConstants.GRADLE_AGGREGATING_PROCESSOR_OPTION
+                    : AutoConstants.GRADLE_ISOLATING_PROCESSOR_OPTION);
+        }
+
+        return options;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        this.context.nextRound();
+        if (env.processingOver()) {
+            this.writeDefinitions();
+            this.writePaths();
+            this.writeRegistry();
+            this.reportMetrics();
+            this.context.release();
+
+            return false;
+        }
+        if (null != this.definitions) {
+            // Read through the symbols of the round, before the trees are rewritten
+            this.definitions.collect(annotations, env);
+        }
+        if (null != this.paths) {
+            this.paths.collect(annotations, env);
+        }
+        if (null != this.registry) {
+            this.registry.collect(env);
+        }
+        if (null != this.sourceGenerator) {
+            return this.sourceGenerator.generate(annotations, env);
+        }
+        if (!this.context.options().enabled()) {
+            return this.stripAutoSwaggers(annotations, env);
+        }
+
+        Map<TypeElement, AutoBuilder> dispatchers = this.determineDispatchers(annotations);
+        if (dispatchers.isEmpty()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Map<JCTree.JCCompilationUnit, AutoCompilationUnit> units = this.scan(env, dispatchers);
+        if (units.isEmpty()) {
+            return true;
+        }
+
+        AutoRoundMetrics round = this.context.metrics().beginRound(units.size());
+        this.processAutoSwaggers(units.values(), round);
+        this.context.importLedger().flush();
+
+        this.context.metrics().current(null);
+        round.elapsed(System.nanoTime() - start);
+
+        return true;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void initTreeMode(AutoContext.AutoContextBuilder builder) {
+        // JDK 9+: open jdk.compiler before any javac internal is resolved
+        AutoJavacCompat.openJdkCompiler();
+        JavacProcessingEnvironment javacEnv = AutoJavacCompat.unwrap(processingEnv);
+        Context context = javacEnv.getContext();
+
+        this.context = builder
+                .trees(Trees.instance(javacEnv))
+                .treeMaker(TreeMaker.instance(context))
+                .names(Names.instance(context))
+                .build();
+
+        AutoApiModelPropertyBuilder apiModelPropertyBuilder = new AutoApiModelPropertyBuilder(this.context);
+
+        this.register(new AutoApiBuilder(this.context));
+        this.register(new AutoApiModelBuilder(this.context, apiModelPropertyBuilder));
+        this.register(apiModelPropertyBuilder);
+
+        this.stripEngine = new AutoStripEngine(this.context.options().stripSwagger());
+    }
+
+    private void register(AutoBuilder builder) {
+        this.builders.put(builder.annotationType().getName(), builder);
+    }
+
+    private Map<TypeElement, AutoBuilder> determineDispatchers(Set<? extends TypeElement> annotations) {
+        Map<TypeElement, AutoBuilder> dispatchers = new IdentityHashMap<>(annotations.size());
+        for (TypeElement annotation : annotations) {
+            if (null == annotation.getAnnotation(AutoSwagger.class)) {
+                continue;
+            }
+
+            AutoBuilder builder = this.builders.get(annotation.getQualifiedName().toString());
+            if (null != builder) {
+                dispatchers.put(annotation, builder);
+            }
+        }
+
+        return dispatchers;
+    }
+
+    private Map<JCTree.JCCompilationUnit, AutoCompilationUnit> scan(RoundEnvironment env, Map<TypeElement, AutoBuilder> dispatchers) {
+        AutoElementScanner scanner = new AutoElementScanner(dispatchers);
+        AutoGlobFilter filter = this.context.options().filter();
+        Map<JCTree.JCCompilationUnit, AutoCompilationUnit> units = new LinkedHashMap<>();
+
+        for (Element root : env.getRootElements()) {
+            if (!(root instanceof TypeElement)) {
+                continue;
+            }
+            // Filtered out classes are not visited at all
+            if (!filter.isEmpty() && !filter.determineIsIncluded(((TypeElement) root).getQualifiedName())) {
+                continue;
+            }
+
+            AutoCompilationUnit pending = new AutoCompilationUnit();
+            scanner.scan(root, pending);
+            if (pending.isEmpty()) {
+                continue;
+            }
+
+            JCTree.JCCompilationUnit unit = (JCTree.JCCompilationUnit) this.context.trees().getPath(root).getCompilationUnit();
+            units.computeIfAbsent(unit, (x) -> new AutoCompilationUnit().unit(x)).addAll(pending);
+        }
+
+        return units;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Builders run in registration order: class-level builders handle the fields of their class in the same pass,
+     * the field-level builder then skips them. Deferred work is applied once every builder has built.
+     */
+    private void processAutoSwaggers(Collection<AutoCompilationUnit> units, AutoRoundMetrics round) {
+        Map<AutoBuilder, AutoBuilderMetrics> builders = new LinkedHashMap<>(this.builders.size());
+        for (AutoBuilder builder : this.builders.values()) {
+            AutoBuilderMetrics metrics = this.beginBuilder(round, builder);
+
+            long start = System.nanoTime();
+            for (AutoCompilationUnit unit : units) {
+                this.processAutoSwagger(unit, builder, unit.elements(builder), metrics);
+            }
+            metrics.elapsed(System.nanoTime() - start);
+            builders.put(builder, metrics);
+        }
+
+        builders.forEach(this::applyAutoSwagger);
+    }
+
+    private void applyAutoSwagger(AutoBuilder builder, AutoBuilderMetrics metrics) {
+        this.context.metrics().current(metrics);
+
+        long start = System.nanoTime();
+        builder.apply();
+        metrics.elapsed(System.nanoTime() - start);
+    }
+
+    private void processAutoSwagger(AutoCompilationUnit unit, AutoBuilder builder, List<Element> elements, AutoBuilderMetrics metrics) {
+        metrics.visited(elements.size());
+        for (Element element : elements) {
+            builder.build(unit, element);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Disabled: strip every unit holding annotations to strip in one pass, the other units are never opened.
+     */
+    private boolean stripAutoSwaggers(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        List<TypeElement> stripped = this.determineStripped(annotations);
+        if (stripped.isEmpty()) {
+            return false;
+        }
+
+        long start = System.nanoTime();
+        Set<JCTree.JCCompilationUnit> units = this.determineStripUnits(env, stripped);
+        if (units.isEmpty()) {
+            return true;
+        }
+
+        AutoRoundMetrics round = this.context.metrics().beginRound(units.size());
+        AutoBuilderMetrics metrics = round.builder(AutoStripEngine.class.getSimpleName());
+        this.context.metrics().current(metrics);
+
+        List<AutoAnnotationMatcher> matchers = new ArrayList<>(stripped.size());
+        for (TypeElement annotation : stripped) {
+            matchers.add(this.context.matcher(annotation.getQualifiedName().toString()));
+        }
+        for (JCTree.JCCompilationUnit unit : units) {
+            metrics.visited(this.stripEngine.strip(unit, matchers));
+        }
+
+        long elapsed = System.nanoTime() - start;
+        metrics.elapsed(elapsed);
+        this.context.metrics().current(null);
+        round.elapsed(elapsed);
+
+        return true;
+    }
+
+    /**
+     * The proxies of the round, and the hand-written Swagger annotations with the {@code swagger} strip profile.
+     */
+    private List<TypeElement> determineStripped(Set<? extends TypeElement> annotations) {
+        boolean stripSwagger = this.context.options().stripSwagger();
+        List<TypeElement> stripped = new ArrayList<>(annotations.size());
+        for (TypeElement annotation : annotations) {
+            if (null != annotation.getAnnotation(AutoSwagger.class)) {
+                if (this.builders.containsKey(annotation.getQualifiedName().toString())) {
+                    stripped.add(annotation);
+                }
+            } else if (stripSwagger && this.determineIsSwaggerAnnotation(annotation)) {
+                stripped.add(annotation);
+            }
+        }
+
+        return stripped;
+    }
+
+    private boolean determineIsSwaggerAnnotation(TypeElement annotation) {
+        Element enclosing = annotation.getEnclosingElement();
+
+        return enclosing instanceof PackageElement
+                && ((PackageElement) enclosing).getQualifiedName().contentEquals(AutoConstants.SWAGGER_ANNOTATION_PACKAGE);
+    }
+
+    private Set<JCTree.JCCompilationUnit> determineStripUnits(RoundEnvironment env, List<TypeElement> stripped) {
+        AutoGlobFilter filter = this.context.options().filter();
+        Set<TypeElement> roots = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<JCTree.JCCompilationUnit> units = new LinkedHashSet<>();
+
+        for (TypeElement annotation : stripped) {
+            for (Element element : env.getElementsAnnotatedWith(annotation)) {
+                TypeElement root = this.determineRoot(element);
+                if (null == root || !roots.add(root)) {
+                    continue;
+                }
+                // Filtered out classes are not visited at all
+                if (!filter.isEmpty() && !filter.determineIsIncluded(root.getQualifiedName())) {
+                    continue;
+                }
+
+                units.add((JCTree.JCCompilationUnit) this.context.trees().getPath(root).getCompilationUnit());
+            }
+        }
+
+        return units;
+    }
+
+    /**
+     * The top-level class declaring the element, {@code null} for package annotations.
+     */
+    private TypeElement determineRoot(Element element) {
+        Element root = element;
+        while (null != root && !(root.getEnclosingElement() instanceof PackageElement)) {
+            root = root.getEnclosingElement();
+        }
+
+        return root instanceof TypeElement ? (TypeElement) root : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoBuilderMetrics beginBuilder(AutoRoundMetrics round, AutoBuilder builder) {
+        AutoBuilderMetrics metrics = round.builder(builder.getClass().getSimpleName());
+        this.context.metrics().current(metrics);
+
+        return metrics;
+    }
+
+    private void writeDefinitions() {
+        if (null != this.definitions && !this.definitions.isEmpty()) {
+            this.writeResource(AutoConstants.AUTO_SWAGGER_DEFINITIONS_RESOURCE, this.definitions.toJson());
+        }
+    }
+
+    private void writeRegistry() {
+        if (null != this.registry) {
+            this.registry.generate();
+        }
+    }
+
+    private void writePaths() {
+        if (null == this.paths || this.paths.isEmpty()) {
+            return;
+        }
+
+        this.writeResource(AutoConstants.AUTO_SWAGGER_PATHS_RESOURCE, this.paths.toJson());
+        String shard = this.context.options().shard();
+        if (null != shard) {
+            boolean byPackage = AutoConstants.AUTO_SWAGGER_ANNOTATION_SHARD_PACKAGE.equals(shard);
+            for (Map.Entry<String, String> resource : AutoSpecShards.render(this.paths.shards(byPackage)).entrySet()) {
+                this.writeResource(resource.getKey(), resource.getValue());
+            }
+        }
+    }
+
+    private void reportMetrics() {
+        AutoMetrics metrics = this.context.metrics();
+        if (this.context.options().metrics()) {
+            this.writeResource(AutoConstants.AUTO_SWAGGER_METRICS_RESOURCE, metrics.toJson());
+        }
+
+        if (this.context.options().metricsSummary()) {
+            this.context.messager().printMessage(Diagnostic.Kind.NOTE, metrics.toSummary());
+        }
+    }
+
+    private void writeResource(String name, String content) {
+        try {
+            FileObject resource = this.context.filer().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(content);
+            }
+        } catch (IOException e) {
+            this.context.messager().printMessage(Diagnostic.Kind.WARNING,
+                    "auto-swagger: unable to write " + name + ": " + e.getMessage());
+        }
+    }
+}
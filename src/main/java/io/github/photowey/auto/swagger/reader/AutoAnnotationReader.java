@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.reader;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * {@code AutoAnnotationReader}
+ * Reads annotation attributes straight from {@link AnnotationMirror#getElementValues()},
+ * instead of {@code Element#getAnnotation(Class)} and its per-element dynamic proxy.
+ * <p>
+ * The {@link AutoAnnotationSchema} of each annotation type is computed once and cached.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationReader {
+
+    private final Map<TypeElement, AutoAnnotationSchema> schemas = new IdentityHashMap<>();
+
+    public AutoAnnotationSchema schema(TypeElement annotationType) {
+        return this.schemas.computeIfAbsent(annotationType, AutoAnnotationSchema::new);
+    }
+
+    /**
+     * Read the usage of the given annotation type on the element.
+     *
+     * @param element        the annotated element
+     * @param annotationType the annotation type
+     * @return the explicitly set values, or {@code null} if the element is not annotated with it
+     */
+    public AutoAnnotationValues read(Element element, TypeElement annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (mirror.getAnnotationType().asElement() == annotationType) {
+                return this.read(mirror);
+            }
+        }
+
+        return null;
+    }
+
+    public AutoAnnotationValues read(AnnotationMirror mirror) {
+        AutoAnnotationSchema schema = this.schema((TypeElement) mirror.getAnnotationType().asElement());
+
+        AnnotationValue[] values = new AnnotationValue[schema.size()];
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            int slot = schema.slot(entry.getKey());
+            if (slot >= 0) {
+                values[slot] = entry.getValue();
+            }
+        }
+
+        return new AutoAnnotationValues(schema, values);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.reader;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code AutoAnnotationSchema}
+ * The attributes of an annotation type, each one bound to a fixed slot in declaration order.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationSchema {
+
+    private final TypeElement annotationType;
+    private final String[] attributes;
+    private final Map<ExecutableElement, Integer> slots;
+
+    public AutoAnnotationSchema(TypeElement annotationType) {
+        List<ExecutableElement> methods = ElementFilter.methodsIn(annotationType.getEnclosedElements());
+
+        this.annotationType = annotationType;
+        this.attributes = new String[methods.size()];
+        this.slots = new IdentityHashMap<>(methods.size());
+        for (int i = 0; i < methods.size(); i++) {
+            ExecutableElement method = methods.get(i);
+            this.attributes[i] = method.getSimpleName().toString();
+            this.slots.put(method, i);
+        }
+    }
+
+    public TypeElement annotationType() {
+        return this.annotationType;
+    }
+
+    public int size() {
+        return this.attributes.length;
+    }
+
+    public String attribute(int slot) {
+        return this.attributes[slot];
+    }
+
+    /**
+     * Resolve the slot of an attribute by name, intended to be called once when a builder is created.
+     *
+     * @param attribute the attribute name
+     * @return the slot
+     */
+    public int slot(String attribute) {
+        for (int i = 0; i < this.attributes.length; i++) {
+            if (this.attributes[i].equals(attribute)) {
+                return i;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown attribute: " + this.annotationType + "." + attribute);
+    }
+
+    public int slot(ExecutableElement method) {
+        Integer slot = this.slots.get(method);
+        if (null != slot) {
+            return slot;
+        }
+
+        // Not the canonical member symbol, fall back to the name
+        for (int i = 0; i < this.attributes.length; i++) {
+            if (method.getSimpleName().contentEquals(this.attributes[i])) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+}
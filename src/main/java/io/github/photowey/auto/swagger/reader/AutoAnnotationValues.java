@@ -0,0 +1,131 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.reader;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code AutoAnnotationValues}
+ * The attributes explicitly set on an annotation usage, indexed by {@link AutoAnnotationSchema} slot.
+ * <p>
+ * Attributes left to their default value are not set.
+ * {@code Class} members are read as {@link TypeMirror}s, no {@code MirroredTypeException} is involved.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoAnnotationValues {
+
+    private final AutoAnnotationSchema schema;
+    private final AnnotationValue[] values;
+
+    AutoAnnotationValues(AutoAnnotationSchema schema, AnnotationValue[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    public AutoAnnotationSchema schema() {
+        return this.schema;
+    }
+
+    public boolean isSet(int slot) {
+        return null != this.values[slot];
+    }
+
+    public AnnotationValue get(int slot) {
+        return this.values[slot];
+    }
+
+    public String string(int slot) {
+        return (String) this.values[slot].getValue();
+    }
+
+    public boolean bool(int slot) {
+        return (Boolean) this.values[slot].getValue();
+    }
+
+    public int integer(int slot) {
+        return (Integer) this.values[slot].getValue();
+    }
+
+    public TypeMirror type(int slot) {
+        return (TypeMirror) this.values[slot].getValue();
+    }
+
+    public VariableElement enumConstant(int slot) {
+        return (VariableElement) this.values[slot].getValue();
+    }
+
+    public AnnotationMirror annotation(int slot) {
+        return (AnnotationMirror) this.values[slot].getValue();
+    }
+
+    /**
+     * Copy the explicitly set values out of javac, see {@link AutoValueSnapshot}.
+     *
+     * @param elements the javac {@link Elements}
+     * @return the snapshot of every slot, {@code null} where not set
+     */
+    public Object[] snapshot(Elements elements) {
+        Object[] snapshot = new Object[this.values.length];
+        for (int slot = 0; slot < this.values.length; slot++) {
+            snapshot[slot] = AutoValueSnapshot.of(this.values[slot], elements);
+        }
+
+        return snapshot;
+    }
+
+    public List<String> strings(int slot) {
+        return this.elements(slot, String.class);
+    }
+
+    public List<TypeMirror> types(int slot) {
+        return this.elements(slot, TypeMirror.class);
+    }
+
+    public List<AnnotationMirror> annotations(int slot) {
+        return this.elements(slot, AnnotationMirror.class);
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * Read an array member, a single value written without braces is accepted as well.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> List<T> elements(int slot, Class<T> clazz) {
+        Object value = this.values[slot].getValue();
+        if (!(value instanceof List)) {
+            return Collections.singletonList(clazz.cast(value));
+        }
+
+        List<? extends AnnotationValue> array = (List<? extends AnnotationValue>) value;
+        List<T> elements = new ArrayList<>(array.size());
+        for (AnnotationValue element : array) {
+            elements.add(clazz.cast(element.getValue()));
+        }
+
+        return elements;
+    }
+}
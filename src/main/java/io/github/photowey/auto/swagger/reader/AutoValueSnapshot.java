@@ -0,0 +1,89 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.reader;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code AutoValueSnapshot}
+ * Copies annotation values out of javac into plain, immutable Java values comparable with {@link Object#equals}.
+ * <p>
+ * |- constants: themselves
+ * |- enum constants: their name
+ * |- {@code Class} values: the type name
+ * |- arrays: an unmodifiable {@link List}
+ * |- nested annotations: an unmodifiable {@link Map} of every member, defaults included, keyed by name
+ * <p>
+ * Snapshots are taken on the javac thread, comparing them is safe on any thread.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoValueSnapshot {
+
+    private static final String ANNOTATION_TYPE_KEY = "@";
+
+    private AutoValueSnapshot() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static Object of(AnnotationValue value, Elements elements) {
+        if (null == value) {
+            return null;
+        }
+
+        Object target = value.getValue();
+        if (target instanceof List) {
+            List<?> array = (List<?>) target;
+            List<Object> snapshot = new ArrayList<>(array.size());
+            for (Object element : array) {
+                snapshot.add(of((AnnotationValue) element, elements));
+            }
+
+            return Collections.unmodifiableList(snapshot);
+        }
+        if (target instanceof AnnotationMirror) {
+            AnnotationMirror mirror = (AnnotationMirror) target;
+            Map<String, Object> snapshot = new TreeMap<>();
+            snapshot.put(ANNOTATION_TYPE_KEY, mirror.getAnnotationType().toString());
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(mirror).entrySet()) {
+                snapshot.put(entry.getKey().getSimpleName().toString(), of(entry.getValue(), elements));
+            }
+
+            return Collections.unmodifiableMap(snapshot);
+        }
+        if (target instanceof VariableElement) {
+            return ((VariableElement) target).getSimpleName().toString();
+        }
+        if (target instanceof TypeMirror) {
+            return target.toString();
+        }
+
+        return target;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.runtime;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@code AutoShardLoader}
+ * Loads the spec shards written by the processor ({@code io.github.photowey.auto.swagger.annotation.shard}) on demand.
+ * <p>
+ * Only the manifests are read up front; a shard is read the first time it is requested and kept afterwards,
+ * the memory follows what is viewed, not the size of the whole API. Every module on the class path contributes its
+ * manifest, the first module declaring a key wins.
+ * <pre>
+ * AutoShardLoader loader = AutoShardLoader.load(Thread.currentThread().getContextClassLoader());
+ * String orders = loader.shard("orders"); // {"swagger":"2.0","paths":...,"definitions":...}
+ * </pre>
+ * No JSON library is required: shards are handed out as JSON text, or as a stream to deserialize straight away.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoShardLoader {
+
+    /**
+     * Kept in sync with {@code AutoConstants#AUTO_SWAGGER_SHARDS_MANIFEST_RESOURCE}, the runtime does not depend on the processor.
+     */
+    public static final String MANIFEST_RESOURCE = "META-INF/auto-swagger/shards.properties";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Map<String, URL> locations;
+    private final ConcurrentMap<String, String> loaded = new ConcurrentHashMap<>();
+
+    AutoShardLoader(Map<String, URL> locations) {
+        this.locations = Collections.unmodifiableMap(locations);
+    }
+
+    /**
+     * Read the manifests of the class path.
+     *
+     * @param classLoader the class loader of the modules
+     * @return the {@link AutoShardLoader}
+     */
+    public static AutoShardLoader load(ClassLoader classLoader) {
+        Map<String, URL> locations = new TreeMap<>();
+        try {
+            Enumeration<URL> manifests = classLoader.getResources(MANIFEST_RESOURCE);
+            while (manifests.hasMoreElements()) {
+                URL manifest = manifests.nextElement();
+                Properties properties = new Properties();
+                try (Reader reader = new InputStreamReader(manifest.openStream(), StandardCharsets.ISO_8859_1)) {
+                    properties.load(reader);
+                }
+                for (String key : properties.stringPropertyNames()) {
+                    if (!locations.containsKey(key)) {
+                        // Relative to the manifest: the shard of the same module
+                        locations.put(key, new URL(manifest, properties.getProperty(key)));
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("auto-swagger: unable to read " + MANIFEST_RESOURCE, e);
+        }
+
+        return new AutoShardLoader(locations);
+    }
+
+    /**
+     * The keys of the shards: tags or packages, as configured at build time.
+     *
+     * @return the keys, sorted
+     */
+    public Set<String> keys() {
+        return this.locations.keySet();
+    }
+
+    public boolean contains(String key) {
+        return this.locations.containsKey(key);
+    }
+
+    /**
+     * The shard of the key, read on first use.
+     *
+     * @param key the tag or package
+     * @return the Swagger 2.0 JSON of the shard, or {@code null} if there is none
+     */
+    public String shard(String key) {
+        if (!this.locations.containsKey(key)) {
+            return null;
+        }
+
+        return this.loaded.computeIfAbsent(key, (x) -> this.read(this.locations.get(x)));
+    }
+
+    /**
+     * Open the shard of the key without keeping it, to deserialize it directly.
+     *
+     * @param key the tag or package
+     * @return the UTF-8 stream of the shard, or {@code null} if there is none
+     * @throws IOException if the shard can not be opened
+     */
+    public InputStream open(String key) throws IOException {
+        URL location = this.locations.get(key);
+
+        return null != location ? location.openStream() : null;
+    }
+
+    /**
+     * Drop the loaded shards, they are read again on next use.
+     */
+    public void evict() {
+        this.loaded.clear();
+    }
+
+    // ----------------------------------------------------------------
+
+    private String read(URL location) {
+        try (InputStream input = location.openStream()) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(BUFFER_SIZE);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            for (int read = input.read(buffer); read >= 0; read = input.read(buffer)) {
+                output.write(buffer, 0, read);
+            }
+
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("auto-swagger: unable to read " + location, e);
+        }
+    }
+}
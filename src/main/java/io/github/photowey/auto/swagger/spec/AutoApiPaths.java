@@ -0,0 +1,715 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import io.github.photowey.auto.swagger.annotation.AutoApi;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoGlobFilter;
+import io.github.photowey.auto.swagger.reader.AutoValueSnapshot;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@code AutoApiPaths}
+ * The Swagger 2.0 {@code paths} of the {@code @AutoApi} controllers, written to {@code META-INF/auto-swagger/paths.json}.
+ * <p>
+ * Operations are read from the handler methods, by annotation name (no Spring or JAX-RS dependency):
+ * |- Spring MVC: {@code @RequestMapping}, {@code @GetMapping} ..., {@code @PathVariable}, {@code @RequestParam},
+ * {@code @RequestHeader}, {@code @RequestBody}
+ * |- JAX-RS ({@code javax} and {@code jakarta}): {@code @Path}, {@code @GET} ..., {@code @Produces}, {@code @Consumes},
+ * {@code @PathParam}, {@code @QueryParam}, {@code @HeaderParam}, {@code @FormParam}, the entity parameter
+ * <p>
+ * Tags come from {@code @AutoApi#tags}, operation ids follow springfox ({@code getOrderUsingGET}).
+ * Hand-written {@code @ApiOperation} / {@code @ApiParam} refine summaries and descriptions.
+ * Model types are referenced into the {@link AutoModelDefinitions}.
+ * <p>
+ * The operations can also be split into {@link #shards shards} by tag or by controller package, see {@link AutoSpecShards}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoApiPaths {
+
+    private static final String SPRING_PACKAGE = "org.springframework.web.bind.annotation.";
+    private static final String SPRING_REQUEST_MAPPING = SPRING_PACKAGE + "RequestMapping";
+
+    /**
+     * {@code ValueConstants#DEFAULT_NONE}: {@code @RequestParam#defaultValue} not set.
+     */
+    private static final String SPRING_DEFAULT_NONE = "\n\t\t\n\t\t\n\uE000\uE001\uE002\n\t\t\t\t\n";
+
+    private static final String[] JAX_RS_PACKAGES = {"javax.ws.rs.", "jakarta.ws.rs."};
+    private static final String DEFINITIONS_REFERENCE_PREFIX = "#/definitions/";
+    private static final String SWAGGER_API_OPERATION = "io.swagger.annotations.ApiOperation";
+    private static final String SWAGGER_API_PARAM = "io.swagger.annotations.ApiParam";
+    private static final String SPRINGFOX_API_IGNORE = "springfox.documentation.annotations.ApiIgnore";
+
+    /**
+     * Swagger 2.0 operation order, and the methods of a {@code @RequestMapping} without any.
+     */
+    private static final List<String> HTTP_METHODS = Collections.unmodifiableList(Arrays.asList(
+            "get", "put", "post", "delete", "options", "head", "patch"
+    ));
+
+    private static final Map<String, String> SPRING_MAPPINGS = new HashMap<>(8);
+    private static final Map<String, String> SPRING_PARAMETERS = new HashMap<>(8);
+    private static final Map<String, String> JAX_RS_PARAMETERS = new HashMap<>(8);
+    private static final Set<String> UNWRAPPED_RESPONSE_TYPES = new HashSet<>(Arrays.asList(
+            "org.springframework.http.ResponseEntity",
+            "org.springframework.http.HttpEntity",
+            "org.springframework.web.context.request.async.DeferredResult",
+            "reactor.core.publisher.Mono",
+            "java.util.concurrent.Callable",
+            "java.util.concurrent.CompletableFuture",
+            "java.util.concurrent.CompletionStage",
+            "java.util.concurrent.Future",
+            "java.util.Optional"
+    ));
+    private static final Set<String> SCHEMALESS_RESPONSE_TYPES = new HashSet<>(Arrays.asList(
+            "java.lang.Void",
+            "javax.ws.rs.core.Response",
+            "jakarta.ws.rs.core.Response"
+    ));
+    private static final String[] FRAMEWORK_PARAMETER_PACKAGES = {
+            "javax.servlet.", "jakarta.servlet.", "org.springframework.", "java.security.", "java.io.", "javax.ws.rs.core.", "jakarta.ws.rs.core."
+    };
+
+    static {
+        SPRING_MAPPINGS.put(SPRING_PACKAGE + "GetMapping", "get");
+        SPRING_MAPPINGS.put(SPRING_PACKAGE + "PostMapping", "post");
+        SPRING_MAPPINGS.put(SPRING_PACKAGE + "PutMapping", "put");
+        SPRING_MAPPINGS.put(SPRING_PACKAGE + "DeleteMapping", "delete");
+        SPRING_MAPPINGS.put(SPRING_PACKAGE + "PatchMapping", "patch");
+        SPRING_MAPPINGS.put(SPRING_REQUEST_MAPPING, null);
+
+        SPRING_PARAMETERS.put(SPRING_PACKAGE + "PathVariable", "path");
+        SPRING_PARAMETERS.put(SPRING_PACKAGE + "RequestParam", "query");
+        SPRING_PARAMETERS.put(SPRING_PACKAGE + "RequestHeader", "header");
+        SPRING_PARAMETERS.put(SPRING_PACKAGE + "RequestBody", "body");
+        SPRING_PARAMETERS.put(SPRING_PACKAGE + "RequestPart", "formData");
+
+        JAX_RS_PARAMETERS.put("PathParam", "path");
+        JAX_RS_PARAMETERS.put("QueryParam", "query");
+        JAX_RS_PARAMETERS.put("HeaderParam", "header");
+        JAX_RS_PARAMETERS.put("FormParam", "formData");
+    }
+
+    private final AutoContext context;
+    private final AutoModelDefinitions definitions;
+    private final Map<String, Map<String, Object>> paths = new TreeMap<>();
+    private final Map<String, Map<String, Object>> tags = new TreeMap<>();
+    private final Set<String> operationIds = new HashSet<>();
+    private final List<Operation> operations = new ArrayList<>();
+
+    public AutoApiPaths(AutoContext context, AutoModelDefinitions definitions) {
+        this.context = context;
+        this.definitions = definitions;
+    }
+
+    /**
+     * Resolve the operations of the {@code @AutoApi} controllers of the round, after {@link AutoModelDefinitions#collect}.
+     *
+     * @param annotations the annotation types of the round
+     * @param env         the round environment
+     */
+    public void collect(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        AutoGlobFilter filter = this.context.options().filter();
+        for (TypeElement annotation : annotations) {
+            if (!AutoApi.class.getName().contentEquals(annotation.getQualifiedName())) {
+                continue;
+            }
+
+            for (TypeElement controller : ElementFilter.typesIn(env.getElementsAnnotatedWith(annotation))) {
+                if (filter.isEmpty() || filter.determineIsIncluded(controller.getQualifiedName())) {
+                    this.handleController(controller, annotation);
+                }
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        return this.paths.isEmpty();
+    }
+
+    public String toJson() {
+        Map<String, Object> spec = new LinkedHashMap<>(4);
+        spec.put("swagger", "2.0");
+        spec.put("tags", new ArrayList<>(this.tags.values()));
+        spec.put("paths", this.paths);
+
+        return AutoJsonWriter.write(spec);
+    }
+
+    /**
+     * Split the spec: every shard holds the operations of one tag (an operation of several tags is in each of them)
+     * or of one controller package, with the tags and the definitions they refer to.
+     *
+     * @param byPackage {@code true} to shard by controller package, {@code false} by tag
+     * @return the shard specs by key, sorted
+     */
+    public Map<String, Map<String, Object>> shards(boolean byPackage) {
+        Map<String, List<Operation>> grouped = new TreeMap<>();
+        for (Operation operation : this.operations) {
+            for (String key : byPackage ? Collections.singletonList(operation.packageName) : operation.tags) {
+                grouped.computeIfAbsent(key, (x) -> new ArrayList<>()).add(operation);
+            }
+        }
+
+        Map<String, Map<String, Object>> shards = new TreeMap<>();
+        for (Map.Entry<String, List<Operation>> entry : grouped.entrySet()) {
+            Map<String, Map<String, Object>> paths = new TreeMap<>();
+            Set<String> tags = new TreeSet<>();
+            Set<String> references = new TreeSet<>();
+            for (Operation operation : entry.getValue()) {
+                paths.computeIfAbsent(operation.path, (x) -> new TreeMap<>(Comparator.comparingInt(HTTP_METHODS::indexOf)))
+                        .put(operation.httpMethod, operation.operation);
+                tags.addAll(operation.tags);
+                this.handleReferences(operation.operation, references);
+            }
+
+            List<Object> definitions = new ArrayList<>(tags.size());
+            for (String tag : tags) {
+                definitions.add(this.tags.get(tag));
+            }
+            Map<String, Object> spec = new LinkedHashMap<>(4);
+            spec.put("swagger", "2.0");
+            spec.put("tags", definitions);
+            spec.put("paths", paths);
+            spec.put("definitions", this.definitions.closure(references));
+            shards.put(entry.getKey(), spec);
+        }
+
+        return shards;
+    }
+
+    // ----------------------------------------------------------------
+
+    private void handleController(TypeElement controller, TypeElement annotation) {
+        AnnotationMirror api = this.find(controller, annotation.getQualifiedName().toString());
+        if (Boolean.TRUE.equals(this.value(api, "hidden")) || null != this.find(controller, SPRINGFOX_API_IGNORE)) {
+            return;
+        }
+
+        Controller context = new Controller();
+        context.packageName = this.context.elements().getPackageOf(controller).getQualifiedName().toString();
+        context.tags = this.determineTags(controller, api);
+        context.produces = this.split(this.strings(api, "produces"));
+        context.consumes = this.split(this.strings(api, "consumes"));
+        context.paths = Collections.singletonList("");
+
+        AnnotationMirror mapping = this.find(controller, SPRING_REQUEST_MAPPING);
+        if (null != mapping) {
+            context.paths = this.determinePaths(mapping);
+            context.produces = this.fallback(this.strings(mapping, "produces"), context.produces);
+            context.consumes = this.fallback(this.strings(mapping, "consumes"), context.consumes);
+        }
+        AnnotationMirror path = this.findJaxRs(controller, "Path");
+        if (null != path) {
+            context.paths = this.strings(path, "value");
+        }
+        context.produces = this.fallback(this.strings(this.findJaxRs(controller, "Produces"), "value"), context.produces);
+        context.consumes = this.fallback(this.strings(this.findJaxRs(controller, "Consumes"), "value"), context.consumes);
+
+        for (ExecutableElement method : ElementFilter.methodsIn(controller.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC)) {
+                this.handleMethod(context, method);
+            }
+        }
+    }
+
+    private void handleMethod(Controller controller, ExecutableElement method) {
+        if (null != this.find(method, SPRINGFOX_API_IGNORE)) {
+            return;
+        }
+        AnnotationMirror apiOperation = this.find(method, SWAGGER_API_OPERATION);
+        if (Boolean.TRUE.equals(this.value(apiOperation, "hidden"))) {
+            return;
+        }
+
+        List<String> httpMethods = new ArrayList<>(1);
+        List<String> paths = Collections.singletonList("");
+        List<String> produces = controller.produces;
+        List<String> consumes = controller.consumes;
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            String name = this.determineName(mirror);
+            if (SPRING_MAPPINGS.containsKey(name)) {
+                String httpMethod = SPRING_MAPPINGS.get(name);
+                if (null != httpMethod) {
+                    httpMethods.add(httpMethod);
+                } else {
+                    List<String> declared = this.strings(mirror, "method");
+                    for (String requestMethod : declared.isEmpty() ? HTTP_METHODS : declared) {
+                        httpMethods.add(requestMethod.toLowerCase());
+                    }
+                }
+                paths = this.determinePaths(mirror);
+                produces = this.fallback(this.strings(mirror, "produces"), produces);
+                consumes = this.fallback(this.strings(mirror, "consumes"), consumes);
+            }
+            String jaxRs = this.determineJaxRsName(name);
+            if (null != jaxRs) {
+                if (HTTP_METHODS.contains(jaxRs.toLowerCase()) && jaxRs.equals(jaxRs.toUpperCase())) {
+                    httpMethods.add(jaxRs.toLowerCase());
+                } else if ("Path".equals(jaxRs)) {
+                    paths = this.strings(mirror, "value");
+                } else if ("Produces".equals(jaxRs)) {
+                    produces = this.fallback(this.strings(mirror, "value"), produces);
+                } else if ("Consumes".equals(jaxRs)) {
+                    consumes = this.fallback(this.strings(mirror, "value"), consumes);
+                }
+            }
+        }
+        if (httpMethods.isEmpty()) {
+            return;
+        }
+
+        for (String base : controller.paths) {
+            for (String path : paths) {
+                String fullPath = this.determineFullPath(base, path);
+                for (String httpMethod : httpMethods) {
+                    Map<String, Object> operation = this.determineOperation(controller, method, apiOperation, httpMethod, produces, consumes);
+                    Object present = this.paths.computeIfAbsent(fullPath, (x) -> new TreeMap<>(Comparator.comparingInt(HTTP_METHODS::indexOf)))
+                            .putIfAbsent(httpMethod, operation);
+                    if (null == present) {
+                        this.operations.add(new Operation(fullPath, httpMethod, operation, controller.packageName));
+                    }
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> determineOperation(Controller controller, ExecutableElement method, AnnotationMirror apiOperation,
+                                                   String httpMethod, List<String> produces, List<String> consumes) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        List<String> tags = this.strings(apiOperation, "tags");
+        tags.removeIf(String::isEmpty);
+        operation.put("tags", tags.isEmpty() ? controller.tags : tags);
+
+        String summary = this.string(apiOperation, "value");
+        operation.put("summary", summary.isEmpty() ? method.getSimpleName().toString() : summary);
+        String notes = this.string(apiOperation, "notes");
+        if (!notes.isEmpty()) {
+            operation.put("description", notes);
+        }
+        operation.put("operationId", this.determineOperationId(method, apiOperation, httpMethod));
+        if (!consumes.isEmpty()) {
+            operation.put("consumes", consumes);
+        }
+        if (!produces.isEmpty()) {
+            operation.put("produces", produces);
+        }
+
+        List<Object> parameters = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            Map<String, Object> resolved = this.determineParameter(parameter);
+            if (null != resolved) {
+                parameters.add(resolved);
+            }
+        }
+        if (!parameters.isEmpty()) {
+            operation.put("parameters", parameters);
+        }
+
+        Map<String, Object> ok = new LinkedHashMap<>(2);
+        ok.put("description", "OK");
+        TypeMirror response = this.determineResponseType(method.getReturnType());
+        if (null != response) {
+            ok.put("schema", this.definitions.resolve(response));
+        }
+        Map<String, Object> responses = new LinkedHashMap<>(2);
+        responses.put("200", ok);
+        operation.put("responses", responses);
+
+        return operation;
+    }
+
+    private Map<String, Object> determineParameter(VariableElement parameter) {
+        if (null != this.find(parameter, SPRINGFOX_API_IGNORE)) {
+            return null;
+        }
+
+        String in = null;
+        String name = parameter.getSimpleName().toString();
+        boolean required = true;
+        boolean jaxRsEntity = true;
+        for (AnnotationMirror mirror : parameter.getAnnotationMirrors()) {
+            String annotation = this.determineName(mirror);
+            String jaxRs = this.determineJaxRsName(annotation);
+            if (SPRING_PARAMETERS.containsKey(annotation)) {
+                in = SPRING_PARAMETERS.get(annotation);
+                String declared = this.string(mirror, "value");
+                declared = declared.isEmpty() ? this.string(mirror, "name") : declared;
+                name = declared.isEmpty() ? name : declared;
+                Object defaultValue = this.value(mirror, "defaultValue");
+                required = !Boolean.FALSE.equals(this.value(mirror, "required"))
+                        && (null == defaultValue || SPRING_DEFAULT_NONE.equals(defaultValue));
+            } else if (null != jaxRs && JAX_RS_PARAMETERS.containsKey(jaxRs)) {
+                in = JAX_RS_PARAMETERS.get(jaxRs);
+                name = this.string(mirror, "value");
+                required = "path".equals(in);
+            } else if (null != jaxRs) {
+                // @Context, @BeanParam, @DefaultValue ...
+                jaxRsEntity = false;
+                required &= !"DefaultValue".equals(jaxRs);
+            }
+        }
+
+        TypeMirror type = parameter.asType();
+        if (null == in) {
+            if (this.determineIsFrameworkType(type)) {
+                return null;
+            }
+            if (jaxRsEntity && this.determineIsJaxRsMethod(parameter.getEnclosingElement())) {
+                in = "body";
+            } else if (this.determineIsSimpleType(type)) {
+                // Spring binds plain parameters from the query
+                in = "query";
+                required = false;
+            } else {
+                return null;
+            }
+        }
+
+        Map<String, Object> resolved = new LinkedHashMap<>();
+        resolved.put("name", "body".equals(in) && name.isEmpty() ? "body" : name);
+        resolved.put("in", in);
+        AnnotationMirror apiParam = this.find(parameter, SWAGGER_API_PARAM);
+        String description = this.string(apiParam, "value");
+        if (!description.isEmpty()) {
+            resolved.put("description", description);
+        }
+        resolved.put("required", "path".equals(in) || required || Boolean.TRUE.equals(this.value(apiParam, "required")));
+
+        Map<String, Object> schema = this.definitions.resolve(type);
+        if ("body".equals(in)) {
+            resolved.put("schema", schema);
+        } else {
+            this.handleSimpleSchema(resolved, schema);
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Non-body parameters carry {@code type} / {@code format} / {@code items} themselves, models degrade to strings.
+     */
+    private void handleSimpleSchema(Map<String, Object> parameter, Map<String, Object> schema) {
+        if (schema.containsKey("$ref") || "object".equals(schema.get("type"))) {
+            parameter.put("type", "string");
+            return;
+        }
+
+        for (Map.Entry<String, Object> entry : schema.entrySet()) {
+            if ("items".equals(entry.getKey()) && entry.getValue() instanceof Map && ((Map<?, ?>) entry.getValue()).containsKey("$ref")) {
+                parameter.put("items", Collections.singletonMap("type", "string"));
+            } else {
+                parameter.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if ("array".equals(schema.get("type"))) {
+            parameter.put("collectionFormat", "multi");
+        }
+    }
+
+    private TypeMirror determineResponseType(TypeMirror type) {
+        if (TypeKind.VOID == type.getKind()) {
+            return null;
+        }
+        if (TypeKind.DECLARED != type.getKind()) {
+            return type;
+        }
+
+        DeclaredType declared = (DeclaredType) type;
+        String qualifiedName = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        if (SCHEMALESS_RESPONSE_TYPES.contains(qualifiedName)) {
+            return null;
+        }
+        if (UNWRAPPED_RESPONSE_TYPES.contains(qualifiedName)) {
+            return declared.getTypeArguments().isEmpty() ? null : this.determineResponseType(declared.getTypeArguments().get(0));
+        }
+        if ("reactor.core.publisher.Flux".equals(qualifiedName) && !declared.getTypeArguments().isEmpty()) {
+            TypeElement list = this.context.elements().getTypeElement(List.class.getName());
+            TypeMirror element = this.determineResponseType(declared.getTypeArguments().get(0));
+
+            return null != list && null != element ? this.context.types().getDeclaredType(list, element) : null;
+        }
+
+        return type;
+    }
+
+    private String determineOperationId(ExecutableElement method, AnnotationMirror apiOperation, String httpMethod) {
+        String nickname = this.string(apiOperation, "nickname");
+        String operationId = nickname.isEmpty() ? method.getSimpleName() + "Using" + httpMethod.toUpperCase() : nickname;
+        String unique = operationId;
+        for (int i = 1; !this.operationIds.add(unique); i++) {
+            unique = operationId + "_" + i;
+        }
+
+        return unique;
+    }
+
+    /**
+     * The {@code @AutoApi#tags}, else its {@code value}, else the springfox default: {@code OrderController -> order-controller}.
+     */
+    private List<String> determineTags(TypeElement controller, AnnotationMirror api) {
+        List<String> tags = this.strings(api, "tags");
+        tags.removeIf(String::isEmpty);
+        if (tags.isEmpty() && !this.string(api, "value").isEmpty()) {
+            tags.add(this.string(api, "value"));
+        }
+        if (tags.isEmpty()) {
+            tags.add(controller.getSimpleName().toString().replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase());
+        }
+
+        String description = this.string(api, "description");
+        for (String tag : tags) {
+            Map<String, Object> definition = this.tags.computeIfAbsent(tag, (x) -> {
+                Map<String, Object> created = new LinkedHashMap<>(2);
+                created.put("name", x);
+                return created;
+            });
+            if (!description.isEmpty()) {
+                definition.putIfAbsent("description", description);
+            }
+        }
+
+        return tags;
+    }
+
+    private List<String> determinePaths(AnnotationMirror mapping) {
+        List<String> paths = this.strings(mapping, "value");
+        if (paths.isEmpty()) {
+            paths = this.strings(mapping, "path");
+        }
+
+        return paths.isEmpty() ? Collections.singletonList("") : paths;
+    }
+
+    /**
+     * Joins the controller and method paths, {@code /orders/{id:\d+}} becomes {@code /orders/{id}}.
+     */
+    private String determineFullPath(String base, String path) {
+        String joined = ("/" + base + "/" + path).replaceAll("/{2,}", "/");
+        if (joined.length() > 1 && joined.endsWith("/")) {
+            joined = joined.substring(0, joined.length() - 1);
+        }
+
+        return joined.replaceAll("\\{\\s*([^}:\\s]+)\\s*:[^}]*}", "{$1}");
+    }
+
+    private boolean determineIsJaxRsMethod(Element method) {
+        for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+            String jaxRs = this.determineJaxRsName(this.determineName(mirror));
+            if (null != jaxRs && HTTP_METHODS.contains(jaxRs.toLowerCase())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean determineIsSimpleType(TypeMirror type) {
+        Map<String, Object> schema = this.definitions.resolve(type);
+        Object items = schema.get("items");
+
+        return !schema.containsKey("$ref") && !"object".equals(schema.get("type"))
+                && !(items instanceof Map && ((Map<?, ?>) items).containsKey("$ref"));
+    }
+
+    private boolean determineIsFrameworkType(TypeMirror type) {
+        if (TypeKind.DECLARED != type.getKind()) {
+            return false;
+        }
+
+        String qualifiedName = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        for (String prefix : FRAMEWORK_PARAMETER_PACKAGES) {
+            if (qualifiedName.startsWith(prefix)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // ----------------------------------------------------------------
+
+    private String determineName(AnnotationMirror mirror) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private String determineJaxRsName(String qualifiedName) {
+        for (String prefix : JAX_RS_PACKAGES) {
+            if (qualifiedName.startsWith(prefix) && qualifiedName.indexOf('.', prefix.length()) < 0) {
+                return qualifiedName.substring(prefix.length());
+            }
+        }
+
+        return null;
+    }
+
+    private AnnotationMirror find(Element element, String qualifiedName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (qualifiedName.equals(this.determineName(mirror))) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    private AnnotationMirror findJaxRs(Element element, String simpleName) {
+        for (String prefix : JAX_RS_PACKAGES) {
+            AnnotationMirror mirror = this.find(element, prefix + simpleName);
+            if (null != mirror) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * The value of the attribute with defaults applied, as an {@link AutoValueSnapshot}; {@code null} if absent.
+     */
+    private Object value(AnnotationMirror mirror, String attribute) {
+        if (null == mirror) {
+            return null;
+        }
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : this.context.elements().getElementValuesWithDefaults(mirror).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+                return AutoValueSnapshot.of(entry.getValue(), this.context.elements());
+            }
+        }
+
+        return null;
+    }
+
+    private String string(AnnotationMirror mirror, String attribute) {
+        Object value = this.value(mirror, attribute);
+
+        return value instanceof String ? (String) value : "";
+    }
+
+    private List<String> strings(AnnotationMirror mirror, String attribute) {
+        Object value = this.value(mirror, attribute);
+        List<String> strings = new ArrayList<>();
+        if (value instanceof List) {
+            for (Object element : (List<?>) value) {
+                strings.add(String.valueOf(element));
+            }
+        } else if (null != value) {
+            strings.add(String.valueOf(value));
+        }
+
+        return strings;
+    }
+
+    /**
+     * Media types, a single {@code @AutoApi} value may list several separated by commas.
+     */
+    private List<String> split(List<String> values) {
+        List<String> split = new ArrayList<>();
+        for (String value : values) {
+            for (String element : value.split(",")) {
+                if (!element.trim().isEmpty()) {
+                    split.add(element.trim());
+                }
+            }
+        }
+
+        return split;
+    }
+
+    private List<String> fallback(List<String> values, List<String> fallback) {
+        List<String> split = this.split(values);
+
+        return split.isEmpty() ? fallback : split;
+    }
+
+    /**
+     * The names of the definitions the schemas refer to: {@code #/definitions/OrderDto -> OrderDto}.
+     */
+    private void handleReferences(Object schema, Set<String> references) {
+        if (schema instanceof Map) {
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) schema).entrySet()) {
+                if ("$ref".equals(entry.getKey()) && String.valueOf(entry.getValue()).startsWith(DEFINITIONS_REFERENCE_PREFIX)) {
+                    references.add(String.valueOf(entry.getValue()).substring(DEFINITIONS_REFERENCE_PREFIX.length()));
+                } else {
+                    this.handleReferences(entry.getValue(), references);
+                }
+            }
+        } else if (schema instanceof List) {
+            for (Object element : (List<?>) schema) {
+                this.handleReferences(element, references);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static class Controller {
+
+        private String packageName;
+        private List<String> tags;
+        private List<String> paths;
+        private List<String> produces;
+        private List<String> consumes;
+    }
+
+    private static class Operation {
+
+        private final String path;
+        private final String httpMethod;
+        private final Map<String, Object> operation;
+        private final String packageName;
+        private final List<String> tags;
+
+        @SuppressWarnings("unchecked")
+        Operation(String path, String httpMethod, Map<String, Object> operation, String packageName) {
+            this.path = path;
+            this.httpMethod = httpMethod;
+            this.operation = operation;
+            this.packageName = packageName;
+            this.tags = (List<String>) operation.get("tags");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * {@code AutoJsonWriter}
+ * Writes the generated metadata ({@link Map}, {@link Collection}, {@link String}, {@link Number}, {@link Boolean}) as JSON,
+ * two spaces indented, arrays of scalars on one line.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoJsonWriter {
+
+    private static final String INDENT = "  ";
+
+    private AutoJsonWriter() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    public static String write(Object value) {
+        StringBuilder json = new StringBuilder(1024);
+        write(json, value, 0);
+
+        return json.append('\n').toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void write(StringBuilder json, Object value, int depth) {
+        if (value instanceof Map) {
+            writeObject(json, (Map<?, ?>) value, depth);
+        } else if (value instanceof Collection) {
+            writeArray(json, (Collection<?>) value, depth);
+        } else {
+            writeScalar(json, value);
+        }
+    }
+
+    private static void writeObject(StringBuilder json, Map<?, ?> object, int depth) {
+        if (object.isEmpty()) {
+            json.append("{}");
+            return;
+        }
+
+        json.append('{');
+        Iterator<? extends Map.Entry<?, ?>> it = object.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<?, ?> entry = it.next();
+            indent(json.append('\n'), depth + 1);
+            writeString(json, String.valueOf(entry.getKey()));
+            json.append(": ");
+            write(json, entry.getValue(), depth + 1);
+            if (it.hasNext()) {
+                json.append(',');
+            }
+        }
+        indent(json.append('\n'), depth).append('}');
+    }
+
+    private static void writeArray(StringBuilder json, Collection<?> array, int depth) {
+        boolean inline = true;
+        for (Object element : array) {
+            inline &= !(element instanceof Map || element instanceof Collection);
+        }
+
+        json.append('[');
+        Iterator<?> it = array.iterator();
+        while (it.hasNext()) {
+            if (!inline) {
+                indent(json.append('\n'), depth + 1);
+            }
+            write(json, it.next(), depth + 1);
+            if (it.hasNext()) {
+                json.append(inline ? ", " : ",");
+            }
+        }
+        if (!inline && !array.isEmpty()) {
+            indent(json.append('\n'), depth);
+        }
+        json.append(']');
+    }
+
+    private static void writeScalar(StringBuilder json, Object value) {
+        if (null == value) {
+            json.append("null");
+        } else if (value instanceof BigDecimal) {
+            json.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Number || value instanceof Boolean) {
+            json.append(value);
+        } else {
+            writeString(json, value.toString());
+        }
+    }
+
+    private static void writeString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    // ASCII only: the resource reads the same whatever the encoding of the Filer
+                    if (c < 0x20 || c > 0x7e) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+
+    private static StringBuilder indent(StringBuilder json, int depth) {
+        for (int i = 0; i < depth; i++) {
+            json.append(INDENT);
+        }
+
+        return json;
+    }
+}
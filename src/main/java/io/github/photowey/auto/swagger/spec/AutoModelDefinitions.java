@@ -0,0 +1,700 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.github.photowey.auto.swagger.context.AutoContext;
+import io.github.photowey.auto.swagger.context.AutoGlobFilter;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationSchema;
+import io.github.photowey.auto.swagger.reader.AutoAnnotationValues;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * {@code AutoModelDefinitions}
+ * The Swagger 2.0 {@code definitions} of the compilation, written to {@code META-INF/auto-swagger/definitions.json}.
+ * <p>
+ * Every class annotated with {@code @AutoApiModel} or holding {@code @AutoApiModelProperty} fields is a model,
+ * so is every class a model property refers to. Properties are the instance fields (inherited ones included,
+ * unless a {@code parent} is declared), described by their {@code @AutoApiModelProperty} or hand-written
+ * {@code @ApiModelProperty}.
+ * <p>
+ * Generic models are defined per parameterization, named the springfox way ({@code Page«OrderDto»}): inherited
+ * and type variable typed properties are resolved as members of the parameterized type, so a property {@code T content}
+ * of {@code Page<OrderDto>} refers to {@code OrderDto}.
+ * <p>
+ * The references between the definitions are written along as the {@code x-auto-swagger-graph} extension,
+ * the reference cycles (strongly connected definitions) as {@code x-auto-swagger-cycles}.
+ * <p>
+ * Definitions are resolved in the round their model is seen: javac symbols are only reliable within their round.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoModelDefinitions {
+
+    private static final String DEFINITIONS_REFERENCE_PREFIX = "#/definitions/";
+    private static final String RANGE_PREFIX = "range";
+    private static final String INFINITY = "infinity";
+    private static final String GRAPH_EXTENSION = "x-auto-swagger-graph";
+    private static final String CYCLES_EXTENSION = "x-auto-swagger-cycles";
+
+    private final AutoContext context;
+    private final Map<String, Object> definitions = new TreeMap<>();
+    private final Map<String, String> names = new HashMap<>();
+    private final Set<String> taken = new LinkedHashSet<>();
+    private final Map<String, Set<String>> graph = new TreeMap<>();
+    private Round round;
+
+    public AutoModelDefinitions(AutoContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Resolve the models of the round.
+     *
+     * @param annotations the annotation types of the round
+     * @param env         the round environment
+     */
+    public void collect(Set<? extends TypeElement> annotations, RoundEnvironment env) {
+        Deque<DeclaredType> pending = new ArrayDeque<>();
+        AutoGlobFilter filter = this.context.options().filter();
+        for (TypeElement annotation : annotations) {
+            if (!this.determineIsModelAnnotation(annotation)) {
+                continue;
+            }
+
+            for (Element element : env.getElementsAnnotatedWith(annotation)) {
+                Element owner = element.getKind().isField() ? element.getEnclosingElement() : element;
+                if (owner instanceof TypeElement
+                        && (filter.isEmpty() || filter.determineIsIncluded(((TypeElement) owner).getQualifiedName()))) {
+                    // Generic models by themselves: their declaration, parameterizations are defined when referenced
+                    pending.add((DeclaredType) owner.asType());
+                }
+            }
+        }
+
+        this.round = new Round(pending);
+        this.handleDefine();
+    }
+
+    /**
+     * Resolve the schema of a type of the current round, defining the models it refers to.
+     *
+     * @param type the type
+     * @return the schema
+     */
+    public Map<String, Object> resolve(TypeMirror type) {
+        Map<String, Object> schema = this.round().resolver.resolve(type);
+        this.handleDefine();
+
+        return schema;
+    }
+
+    /**
+     * Resolve the schema of a Swagger type name or class name of the current round.
+     *
+     * @param dataType the data type
+     * @return the schema, or {@code null} if unknown
+     */
+    public Map<String, Object> resolve(String dataType) {
+        Map<String, Object> schema = this.round().resolver.resolve(dataType);
+        this.handleDefine();
+
+        return schema;
+    }
+
+    public boolean isEmpty() {
+        return this.definitions.isEmpty();
+    }
+
+    /**
+     * The definitions of the given names and of every definition they refer to, transitively.
+     *
+     * @param names the definition names
+     * @return the definitions, sorted by name
+     */
+    public Map<String, Object> closure(Set<String> names) {
+        Map<String, Object> closure = new TreeMap<>();
+        Deque<String> pending = new ArrayDeque<>(names);
+        while (!pending.isEmpty()) {
+            String name = pending.poll();
+            if (closure.containsKey(name) || !this.definitions.containsKey(name)) {
+                continue;
+            }
+
+            closure.put(name, this.definitions.get(name));
+            pending.addAll(this.graph.getOrDefault(name, Collections.emptySet()));
+        }
+
+        return closure;
+    }
+
+    public String toJson() {
+        Map<String, Object> spec = new LinkedHashMap<>(4);
+        spec.put("swagger", "2.0");
+        spec.put("definitions", this.definitions);
+        spec.put(GRAPH_EXTENSION, this.graph);
+        List<List<String>> cycles = this.determineCycles();
+        if (!cycles.isEmpty()) {
+            spec.put(CYCLES_EXTENSION, cycles);
+        }
+
+        return AutoJsonWriter.write(spec);
+    }
+
+    // ----------------------------------------------------------------
+
+    private Round round() {
+        if (null == this.round) {
+            this.round = new Round(new ArrayDeque<>());
+        }
+
+        return this.round;
+    }
+
+    private void handleDefine() {
+        Round round = this.round();
+        while (!round.pending.isEmpty()) {
+            this.define(round, round.pending.poll());
+        }
+    }
+
+    private boolean determineIsModelAnnotation(TypeElement annotation) {
+        String qualifiedName = annotation.getQualifiedName().toString();
+
+        return AutoApiModel.class.getName().equals(qualifiedName) || AutoApiModelProperty.class.getName().equals(qualifiedName);
+    }
+
+    private void define(Round round, DeclaredType type) {
+        String name = this.determineName(round, type);
+        if (this.definitions.containsKey(name)) {
+            return;
+        }
+        // Placeholder first: self references are resolved against it
+        this.definitions.put(name, Collections.emptyMap());
+        this.graph.put(name, new TreeSet<>());
+        round.current = name;
+
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("type", "object");
+
+        AutoAnnotationValues model = round.read(type.asElement(), round.apiModel);
+        DeclaredType parent = null;
+        if (null != model) {
+            this.handleString(schema, "description", model, round.apiModelSlots.getOrDefault("description", -1));
+            this.handleString(schema, "discriminator", model, round.apiModelSlots.getOrDefault("discriminator", -1));
+            parent = this.determineParent(type, model, round.apiModelSlots.getOrDefault("parent", -1));
+        }
+
+        List<Property> properties = new ArrayList<>();
+        this.handleProperties(round, type, null == parent, properties);
+        // Stable: declaration order within the same position
+        properties.sort(Comparator.comparingInt((Property property) -> property.position));
+
+        List<String> required = new ArrayList<>();
+        Map<String, Object> schemas = new LinkedHashMap<>();
+        for (Property property : properties) {
+            schemas.put(property.name, property.schema);
+            if (property.required) {
+                required.add(property.name);
+            }
+        }
+        if (!required.isEmpty()) {
+            schema.put("required", required);
+        }
+        schema.put("properties", schemas);
+
+        if (null == parent) {
+            this.definitions.put(name, schema);
+            round.current = null;
+            return;
+        }
+
+        Map<String, Object> reference = new LinkedHashMap<>(2);
+        reference.put("$ref", round.reference(parent));
+        Map<String, Object> composed = new LinkedHashMap<>(2);
+        composed.put("allOf", Arrays.asList(reference, schema));
+        this.definitions.put(name, composed);
+        round.current = null;
+    }
+
+    /**
+     * The properties of the fields of the type and, if inherited, of its superclasses, typed as members of the
+     * (parameterized) type: type variables bound by the type or its subclasses are substituted.
+     */
+    private void handleProperties(Round round, DeclaredType type, boolean inherited, List<Property> properties) {
+        DeclaredType superclass = this.determineSuperclass(type);
+        if (inherited && null != superclass) {
+            this.handleProperties(round, superclass, true, properties);
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.asElement().getEnclosedElements())) {
+            if (ElementKind.FIELD != field.getKind()
+                    || field.getModifiers().contains(Modifier.STATIC)
+                    || field.getModifiers().contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+
+            Property property = this.determineProperty(round, field, this.context.types().asMemberOf(type, field));
+            if (null != property) {
+                properties.add(property);
+            }
+        }
+    }
+
+    private Property determineProperty(Round round, VariableElement field, TypeMirror fieldType) {
+        // The hand-written annotation takes precedence, as it does over the generated one in the class file
+        AutoAnnotationValues values = round.read(field, round.swaggerApiModelProperty);
+        if (null == values) {
+            values = round.read(field, round.apiModelProperty);
+        }
+        if (null == values) {
+            return new Property(field.getSimpleName().toString(), 0, false, round.resolver.resolve(fieldType));
+        }
+
+        AutoAnnotationSchema schema = values.schema();
+        if (this.determineIsSet(values, schema, "hidden") && values.bool(schema.slot("hidden"))) {
+            return null;
+        }
+
+        Map<String, Object> property = null;
+        if (this.determineIsSet(values, schema, "dataType")) {
+            property = round.resolver.resolve(values.string(schema.slot("dataType")));
+        }
+        if (this.determineIsSet(values, schema, "reference")) {
+            property = new LinkedHashMap<>(2);
+            property.put("$ref", values.string(schema.slot("reference")));
+        }
+        if (null == property) {
+            property = round.resolver.resolve(fieldType);
+        }
+
+        this.handleString(property, "description", values, this.determineSlot(schema, "value"));
+        this.handleExample(property, values, this.determineSlot(schema, "example"));
+        if (this.determineIsSet(values, schema, "allowableValues")) {
+            this.handleAllowableValues(property, values.string(schema.slot("allowableValues")));
+        }
+        if (this.determineIsReadOnly(values, schema)) {
+            property.put("readOnly", true);
+        }
+
+        String name = this.determineIsSet(values, schema, "name") ? values.string(schema.slot("name")) : "";
+        return new Property(
+                name.isEmpty() ? field.getSimpleName().toString() : name,
+                this.determineIsSet(values, schema, "position") ? values.integer(schema.slot("position")) : 0,
+                this.determineIsSet(values, schema, "required") && values.bool(schema.slot("required")),
+                property
+        );
+    }
+
+    private boolean determineIsReadOnly(AutoAnnotationValues values, AutoAnnotationSchema schema) {
+        if (this.determineIsSet(values, schema, "readOnly") && values.bool(schema.slot("readOnly"))) {
+            return true;
+        }
+
+        return this.determineIsSet(values, schema, "accessMode")
+                && "READ_ONLY".contentEquals(values.enumConstant(schema.slot("accessMode")).getSimpleName());
+    }
+
+    /**
+     * {@code A,B,C} becomes an {@code enum}, {@code range[1, 5]} / {@code range(1, infinity]} minimum and maximum.
+     */
+    private void handleAllowableValues(Map<String, Object> property, String allowableValues) {
+        String values = allowableValues.trim();
+        if (values.isEmpty()) {
+            return;
+        }
+
+        if (values.startsWith(RANGE_PREFIX) && values.length() > RANGE_PREFIX.length() + 2) {
+            String range = values.substring(RANGE_PREFIX.length()).trim();
+            String[] bounds = range.substring(1, range.length() - 1).split(",");
+            if (2 == bounds.length) {
+                this.handleBound(property, "minimum", "exclusiveMinimum", bounds[0], '(' == range.charAt(0));
+                this.handleBound(property, "maximum", "exclusiveMaximum", bounds[1], ')' == range.charAt(range.length() - 1));
+
+                return;
+            }
+        }
+
+        List<String> constants = new ArrayList<>();
+        for (String constant : values.split(",")) {
+            if (!constant.trim().isEmpty()) {
+                constants.add(constant.trim());
+            }
+        }
+        property.put("enum", constants);
+    }
+
+    private void handleBound(Map<String, Object> property, String key, String exclusiveKey, String bound, boolean exclusive) {
+        String value = bound.trim();
+        if (value.isEmpty() || value.toLowerCase().endsWith(INFINITY)) {
+            return;
+        }
+
+        try {
+            property.put(key, new BigDecimal(value));
+            if (exclusive) {
+                property.put(exclusiveKey, true);
+            }
+        } catch (NumberFormatException ignored) {
+            // Not a number: no bound
+        }
+    }
+
+    /**
+     * The example as typed by the property: a number for {@code integer} and {@code number}, a boolean for
+     * {@code boolean}, else (or when it does not parse) the string.
+     */
+    private void handleExample(Map<String, Object> property, AutoAnnotationValues values, int slot) {
+        this.handleString(property, "example", values, slot);
+        Object example = property.get("example");
+        if (null == example) {
+            return;
+        }
+
+        String value = example.toString().trim();
+        Object type = property.get("type");
+        if ("integer".equals(type) || "number".equals(type)) {
+            try {
+                property.put("example", new BigDecimal(value));
+            } catch (NumberFormatException ignored) {
+                // Not a number: the string
+            }
+        } else if ("boolean".equals(type) && ("true".equalsIgnoreCase(value) || "false".equalsIgnoreCase(value))) {
+            property.put("example", Boolean.parseBoolean(value));
+        }
+    }
+
+    private void handleString(Map<String, Object> target, String key, AutoAnnotationValues values, int slot) {
+        if (slot >= 0 && values.isSet(slot)) {
+            String value = values.string(slot);
+            if (!value.isEmpty()) {
+                target.put(key, value);
+            }
+        }
+    }
+
+    /**
+     * The {@code @AutoApiModel#parent}, as parameterized by the type when it is one of its superclasses.
+     */
+    private DeclaredType determineParent(DeclaredType type, AutoAnnotationValues model, int slot) {
+        if (slot < 0 || !model.isSet(slot) || TypeKind.DECLARED != model.type(slot).getKind()) {
+            return null;
+        }
+
+        DeclaredType parent = (DeclaredType) model.type(slot);
+        if (Void.class.getName().contentEquals(((TypeElement) parent.asElement()).getQualifiedName())) {
+            return null;
+        }
+        for (DeclaredType superclass = this.determineSuperclass(type); null != superclass; superclass = this.determineSuperclass(superclass)) {
+            if (superclass.asElement().equals(parent.asElement())) {
+                return superclass;
+            }
+        }
+
+        return parent;
+    }
+
+    /**
+     * The superclass with the type arguments of the type substituted, {@code null} for {@code Object}.
+     */
+    private DeclaredType determineSuperclass(DeclaredType type) {
+        for (TypeMirror supertype : this.context.types().directSupertypes(type)) {
+            if (TypeKind.DECLARED != supertype.getKind()) {
+                continue;
+            }
+
+            TypeElement element = (TypeElement) ((DeclaredType) supertype).asElement();
+            if (ElementKind.CLASS == element.getKind() && !Object.class.getName().contentEquals(element.getQualifiedName())) {
+                return (DeclaredType) supertype;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Determine whether the type is a generic class as declared, {@code Page<T>}: named and referenced as the raw type,
+     * type variable typed properties resolve to their bounds.
+     */
+    private boolean determineIsDeclaration(DeclaredType type) {
+        List<? extends TypeMirror> arguments = type.getTypeArguments();
+        for (TypeMirror argument : arguments) {
+            if (TypeKind.TYPEVAR != argument.getKind()) {
+                return false;
+            }
+        }
+
+        return !arguments.isEmpty();
+    }
+
+    /**
+     * The strongly connected definitions of the reference graph: mutual references and self references (Tarjan).
+     */
+    private List<List<String>> determineCycles() {
+        Tarjan tarjan = new Tarjan();
+        for (String name : this.graph.keySet()) {
+            if (!tarjan.indexes.containsKey(name)) {
+                tarjan.visit(name);
+            }
+        }
+        tarjan.cycles.sort(Comparator.comparing((List<String> cycle) -> cycle.get(0)));
+
+        return tarjan.cycles;
+    }
+
+    private boolean determineIsSet(AutoAnnotationValues values, AutoAnnotationSchema schema, String attribute) {
+        int slot = this.determineSlot(schema, attribute);
+
+        return slot >= 0 && values.isSet(slot);
+    }
+
+    private int determineSlot(AutoAnnotationSchema schema, String attribute) {
+        for (int i = 0; i < schema.size(); i++) {
+            if (schema.attribute(i).equals(attribute)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * The {@code @AutoApiModel#value}, else the simple name, followed by the type arguments: {@code Page«OrderDto»};
+     * the qualified type when the name is taken by another type.
+     */
+    private String determineName(Round round, DeclaredType type) {
+        String qualifiedName = this.determineIsDeclaration(type)
+                ? ((TypeElement) type.asElement()).getQualifiedName().toString()
+                : this.determineKey(type);
+        String name = this.names.get(qualifiedName);
+        if (null != name) {
+            return name;
+        }
+
+        name = this.determineTypeName(round, type);
+        if (!this.taken.add(name)) {
+            name = qualifiedName;
+            this.taken.add(name);
+        }
+        this.names.put(qualifiedName, name);
+
+        return name;
+    }
+
+    /**
+     * The qualified type without its type use annotations: {@code List<@NotNull OrderDto>} is {@code List<OrderDto>}.
+     */
+    private String determineKey(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.determineKey(((ArrayType) type).getComponentType()) + "[]";
+            case DECLARED:
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+                StringBuilder key = new StringBuilder(element.getQualifiedName());
+                for (int i = 0; i < arguments.size(); i++) {
+                    key.append(0 == i ? "<" : ",").append(this.determineKey(arguments.get(i)));
+                }
+
+                return arguments.isEmpty() ? key.toString() : key.append('>').toString();
+            case TYPEVAR:
+                return ((TypeVariable) type).asElement().getSimpleName().toString();
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (null != wildcard.getExtendsBound()) {
+                    return "? extends " + this.determineKey(wildcard.getExtendsBound());
+                }
+
+                return null != wildcard.getSuperBound() ? "? super " + this.determineKey(wildcard.getSuperBound()) : "?";
+            default:
+                return type.getKind().isPrimitive() ? type.getKind().name().toLowerCase() : type.toString();
+        }
+    }
+
+    private String determineTypeName(Round round, TypeMirror type) {
+        if (TypeKind.ARRAY == type.getKind()) {
+            return "Array«" + this.determineTypeName(round, ((ArrayType) type).getComponentType()) + "»";
+        }
+        if (TypeKind.DECLARED != type.getKind()) {
+            return type.toString();
+        }
+
+        TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        String name = element.getSimpleName().toString();
+        AutoAnnotationValues model = round.read(element, round.apiModel);
+        int slot = round.apiModelSlots.getOrDefault("value", -1);
+        if (null != model && slot >= 0 && model.isSet(slot) && !model.string(slot).isEmpty()) {
+            name = model.string(slot);
+        }
+
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.isEmpty() || this.determineIsDeclaration((DeclaredType) type)) {
+            return name;
+        }
+
+        StringBuilder parameterized = new StringBuilder(name).append('«');
+        for (int i = 0; i < arguments.size(); i++) {
+            parameterized.append(0 == i ? "" : ",").append(this.determineTypeName(round, arguments.get(i)));
+        }
+
+        return parameterized.append('»').toString();
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * The javac bound state of a round, replaced on every {@link #collect}.
+     */
+    private class Round {
+
+        private final Deque<DeclaredType> pending;
+        private final TypeElement apiModel;
+        private final TypeElement apiModelProperty;
+        private final TypeElement swaggerApiModelProperty;
+        private final Map<String, Integer> apiModelSlots = new HashMap<>(8);
+        private final AutoSchemaResolver resolver;
+        private String current;
+
+        Round(Deque<DeclaredType> pending) {
+            this.pending = pending;
+            this.apiModel = context.elements().getTypeElement(AutoApiModel.class.getName());
+            this.apiModelProperty = context.elements().getTypeElement(AutoApiModelProperty.class.getName());
+            this.swaggerApiModelProperty = context.elements().getTypeElement(AutoConstants.SWAGGER_API_MODEL_PROPERTY_FULL_QUALIFIED_NAME);
+            if (null != this.apiModel) {
+                AutoAnnotationSchema schema = context.annotationReader().schema(this.apiModel);
+                for (int i = 0; i < schema.size(); i++) {
+                    this.apiModelSlots.put(schema.attribute(i), i);
+                }
+            }
+            this.resolver = new AutoSchemaResolver(context.types(), context.elements(), this::reference);
+        }
+
+        AutoAnnotationValues read(Element element, TypeElement annotationType) {
+            return null != annotationType ? context.annotationReader().read(element, annotationType) : null;
+        }
+
+        /**
+         * The reference to the definition of the type, defined later in the round if not yet.
+         */
+        String reference(DeclaredType type) {
+            DeclaredType model = type;
+            if (type.getTypeArguments().isEmpty() && !((TypeElement) type.asElement()).getTypeParameters().isEmpty()) {
+                // Raw: the declaration
+                model = (DeclaredType) type.asElement().asType();
+            }
+
+            String name = determineName(this, model);
+            if (!definitions.containsKey(name)) {
+                this.pending.add(model);
+            }
+            if (null != this.current) {
+                graph.get(this.current).add(name);
+            }
+
+            return DEFINITIONS_REFERENCE_PREFIX + name;
+        }
+    }
+
+    private class Tarjan {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final Map<String, Integer> lowLinks = new HashMap<>();
+        private final Deque<String> stack = new ArrayDeque<>();
+        private final Set<String> onStack = new HashSet<>();
+        private final List<List<String>> cycles = new ArrayList<>();
+
+        void visit(String name) {
+            int index = this.indexes.size();
+            this.indexes.put(name, index);
+            this.lowLinks.put(name, index);
+            this.stack.push(name);
+            this.onStack.add(name);
+
+            Set<String> references = graph.getOrDefault(name, Collections.emptySet());
+            for (String reference : references) {
+                if (!this.indexes.containsKey(reference)) {
+                    this.visit(reference);
+                    this.lowLinks.put(name, Math.min(this.lowLinks.get(name), this.lowLinks.get(reference)));
+                } else if (this.onStack.contains(reference)) {
+                    this.lowLinks.put(name, Math.min(this.lowLinks.get(name), this.indexes.get(reference)));
+                }
+            }
+            if (!this.lowLinks.get(name).equals(index)) {
+                return;
+            }
+
+            List<String> component = new ArrayList<>();
+            String member;
+            do {
+                member = this.stack.pop();
+                this.onStack.remove(member);
+                component.add(member);
+            } while (!member.equals(name));
+            if (component.size() > 1 || references.contains(name)) {
+                Collections.sort(component);
+                this.cycles.add(component);
+            }
+        }
+    }
+
+    private static class Property {
+
+        private final String name;
+        private final int position;
+        private final boolean required;
+        private final Map<String, Object> schema;
+
+        Property(String name, int position, boolean required, Map<String, Object> schema) {
+            this.name = name;
+            this.position = position;
+            this.required = required;
+            this.schema = schema;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@code AutoSchemaResolver}
+ * Maps Java types to Swagger 2.0 schema objects, the way springfox documents them:
+ * |- primitives, boxes, strings, numbers, dates: {@code type} / {@code format}
+ * |- arrays and collections: {@code array} of their element schema
+ * |- maps: {@code object} with {@code additionalProperties}
+ * |- enums: {@code string} with the constants as {@code enum}
+ * |- other classes: {@code $ref} to their definition, handed out by the reference function
+ * <p>
+ * Generic types are resolved at compile time, instead of by springfox at runtime: references carry the
+ * {@link #normalize normalized} parameterization ({@code Page<? extends OrderDto>} is {@code Page<OrderDto>}),
+ * element types of collections and maps are read through their supertypes ({@code OrderList extends ArrayList<OrderDto>}).
+ * <p>
+ * Created per round: the javac type utilities are bound to the round.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public class AutoSchemaResolver {
+
+    private static final Map<String, String[]> KNOWN_TYPES = new HashMap<>(64);
+
+    static {
+        known("string", null, "java.lang.String", "java.lang.CharSequence", "java.lang.Character", "char");
+        known("boolean", null, "java.lang.Boolean", "boolean");
+        known("integer", "int32", "java.lang.Byte", "java.lang.Short", "java.lang.Integer", "byte", "short", "int");
+        known("integer", "int64", "java.lang.Long", "long");
+        known("integer", null, "java.math.BigInteger", "biginteger");
+        known("number", "float", "java.lang.Float", "float");
+        known("number", "double", "java.lang.Double", "double");
+        known("number", null, "java.math.BigDecimal", "bigdecimal", "number");
+        known("string", "date-time", "java.util.Date", "java.util.Calendar", "java.sql.Timestamp", "java.time.Instant",
+                "java.time.LocalDateTime", "java.time.OffsetDateTime", "java.time.ZonedDateTime", "date-time", "datetime");
+        known("string", "date", "java.time.LocalDate", "java.sql.Date", "date");
+        known("string", null, "java.time.LocalTime", "java.time.Duration", "java.util.Locale", "java.util.Currency");
+        known("string", "uuid", "java.util.UUID", "uuid");
+        known("string", "uri", "java.net.URI", "java.net.URL", "uri");
+        known("string", "byte", "byte[]");
+        known("object", null, "java.lang.Object", "object");
+        known("string", null, "string");
+        known("integer", "int32", "integer");
+    }
+
+    private final Types types;
+    private final Elements elements;
+    private final Function<DeclaredType, String> references;
+    private final TypeMirror collection;
+    private final TypeMirror map;
+
+    public AutoSchemaResolver(Types types, Elements elements, Function<DeclaredType, String> references) {
+        this.types = types;
+        this.elements = elements;
+        this.references = references;
+        this.collection = this.erasure("java.util.Collection");
+        this.map = this.erasure("java.util.Map");
+    }
+
+    /**
+     * Resolve the schema of a type.
+     *
+     * @param type the type
+     * @return the schema
+     */
+    public Map<String, Object> resolve(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            // By kind: the string of an annotated primitive carries its type use annotations: @NotNull int
+            return known(kind.name().toLowerCase());
+        }
+
+        switch (kind) {
+            case ARRAY:
+                TypeMirror component = ((ArrayType) type).getComponentType();
+                if (TypeKind.BYTE == component.getKind()) {
+                    return known("byte[]");
+                }
+
+                return this.array(this.resolve(component));
+            case DECLARED:
+                return this.resolveDeclared((DeclaredType) type);
+            case WILDCARD:
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+
+                return null != bound ? this.resolve(bound) : known("object");
+            case TYPEVAR:
+            case INTERSECTION:
+                return this.resolve(this.types.erasure(type));
+            default:
+                return known("object");
+        }
+    }
+
+    /**
+     * Resolve the schema of an {@code ApiModelProperty#dataType}: a Swagger type name or a class name.
+     *
+     * @param dataType the data type
+     * @return the schema, or {@code null} if unknown
+     */
+    public Map<String, Object> resolve(String dataType) {
+        String name = dataType.trim();
+        if (KNOWN_TYPES.containsKey(name.toLowerCase())) {
+            return known(name.toLowerCase());
+        }
+
+        TypeElement element = this.elements.getTypeElement(name);
+        if (null != element) {
+            return this.resolve(this.types.erasure(element.asType()));
+        }
+
+        return KNOWN_TYPES.containsKey(name) ? known(name) : null;
+    }
+
+    /**
+     * Normalize a type for referencing: wildcards become their upper bound, unbound type variables their erasure,
+     * recursively through the type arguments, array components and enclosing types.
+     *
+     * @param type the type
+     * @return the normalized type
+     */
+    public TypeMirror normalize(TypeMirror type) {
+        switch (type.getKind()) {
+            case ARRAY:
+                return this.types.getArrayType(this.normalize(((ArrayType) type).getComponentType()));
+            case WILDCARD:
+                TypeMirror bound = ((WildcardType) type).getExtendsBound();
+
+                return null != bound ? this.normalize(bound) : this.elements.getTypeElement(Object.class.getName()).asType();
+            case TYPEVAR:
+            case INTERSECTION:
+                return this.normalize(this.types.erasure(type));
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                List<? extends TypeMirror> arguments = declared.getTypeArguments();
+                TypeMirror enclosing = declared.getEnclosingType();
+                if (arguments.isEmpty() && TypeKind.DECLARED != enclosing.getKind()) {
+                    return type;
+                }
+
+                TypeMirror[] normalized = new TypeMirror[arguments.size()];
+                for (int i = 0; i < normalized.length; i++) {
+                    normalized[i] = this.normalize(arguments.get(i));
+                }
+                TypeElement element = (TypeElement) declared.asElement();
+
+                return TypeKind.DECLARED == enclosing.getKind()
+                        ? this.types.getDeclaredType((DeclaredType) this.normalize(enclosing), element, normalized)
+                        : this.types.getDeclaredType(element, normalized);
+            default:
+                return type;
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private Map<String, Object> resolveDeclared(DeclaredType type) {
+        TypeElement element = (TypeElement) type.asElement();
+        String qualifiedName = element.getQualifiedName().toString();
+        if (KNOWN_TYPES.containsKey(qualifiedName)) {
+            return known(qualifiedName);
+        }
+        if (ElementKind.ENUM == element.getKind()) {
+            return this.enumeration(element);
+        }
+
+        List<? extends TypeMirror> arguments = type.getTypeArguments();
+        if ("java.util.Optional".equals(qualifiedName)) {
+            return arguments.isEmpty() ? known("object") : this.resolve(arguments.get(0));
+        }
+
+        TypeMirror erasure = this.types.erasure(type);
+        if (null != this.collection && this.types.isAssignable(erasure, this.collection)) {
+            List<? extends TypeMirror> elements = this.determineTypeArguments(type, this.collection);
+
+            return this.array(elements.isEmpty() ? known("object") : this.resolve(elements.get(0)));
+        }
+        if (null != this.map && this.types.isAssignable(erasure, this.map)) {
+            List<? extends TypeMirror> entries = this.determineTypeArguments(type, this.map);
+            Map<String, Object> schema = known("object");
+            schema.put("additionalProperties", entries.size() < 2 ? known("object") : this.resolve(entries.get(1)));
+
+            return schema;
+        }
+        if (qualifiedName.startsWith("java.") || qualifiedName.startsWith("javax.")) {
+            return known("object");
+        }
+
+        Map<String, Object> schema = new LinkedHashMap<>(2);
+        schema.put("$ref", this.references.apply((DeclaredType) this.normalize(type)));
+
+        return schema;
+    }
+
+    /**
+     * The type arguments of the given supertype, as parameterized by the type or one of its supertypes.
+     *
+     * @return the arguments, empty if raw
+     */
+    private List<? extends TypeMirror> determineTypeArguments(DeclaredType type, TypeMirror supertype) {
+        if (this.types.isSameType(this.types.erasure(type), supertype)) {
+            return type.getTypeArguments();
+        }
+
+        for (TypeMirror direct : this.types.directSupertypes(type)) {
+            if (TypeKind.DECLARED == direct.getKind() && this.types.isAssignable(this.types.erasure(direct), supertype)) {
+                return this.determineTypeArguments((DeclaredType) direct, supertype);
+            }
+        }
+
+        return Collections.emptyList();
+    }
+
+    private Map<String, Object> enumeration(TypeElement element) {
+        List<String> constants = new ArrayList<>();
+        for (Element enclosed : element.getEnclosedElements()) {
+            if (ElementKind.ENUM_CONSTANT == enclosed.getKind()) {
+                constants.add(enclosed.getSimpleName().toString());
+            }
+        }
+
+        Map<String, Object> schema = known("string");
+        schema.put("enum", Collections.unmodifiableList(constants));
+
+        return schema;
+    }
+
+    private Map<String, Object> array(Map<String, Object> items) {
+        Map<String, Object> schema = new LinkedHashMap<>(2);
+        schema.put("type", "array");
+        schema.put("items", items);
+
+        return schema;
+    }
+
+    private TypeMirror erasure(String qualifiedName) {
+        TypeElement element = this.elements.getTypeElement(qualifiedName);
+
+        return null != element ? this.types.erasure(element.asType()) : null;
+    }
+
+    // ----------------------------------------------------------------
+
+    private static void known(String type, String format, String... names) {
+        for (String name : names) {
+            KNOWN_TYPES.put(name, new String[]{type, format});
+        }
+    }
+
+    private static Map<String, Object> known(String name) {
+        String[] known = KNOWN_TYPES.getOrDefault(name, KNOWN_TYPES.get("object"));
+        Map<String, Object> schema = new LinkedHashMap<>(4);
+        schema.put("type", known[0]);
+        if (null != known[1]) {
+            schema.put("format", known[1]);
+        }
+
+        return schema;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * {@code AutoSpecShards}
+ * Renders the shards of the spec, one resource per tag or controller package, and their manifest:
+ * <pre>
+ * META-INF/auto-swagger/shards.properties   orders=shards/orders.json
+ * META-INF/auto-swagger/shards/orders.json  {"swagger":"2.0","tags":...,"paths":...,"definitions":...}
+ * </pre>
+ * Shard locations are relative to the manifest: the shards of every module on the class path stay reachable,
+ * see {@code AutoShardLoader}.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoSpecShards {
+
+    private static final String MANIFEST_HEADER = "# auto-swagger spec shards: key=location, relative to this manifest\n";
+
+    private AutoSpecShards() {
+        // utility class; can not be instantiated
+        throw new AssertionError("No " + this.getClass().getName() + " instances for you!");
+    }
+
+    /**
+     * Render the shard resources and the manifest.
+     *
+     * @param shards the shard specs by key, see {@link AutoApiPaths#shards}
+     * @return the contents by resource name, the manifest last
+     */
+    public static Map<String, String> render(Map<String, Map<String, Object>> shards) {
+        Map<String, String> resources = new LinkedHashMap<>(shards.size() + 1);
+        StringBuilder manifest = new StringBuilder(MANIFEST_HEADER);
+        Set<String> files = new HashSet<>(shards.size());
+        for (Map.Entry<String, Map<String, Object>> entry : shards.entrySet()) {
+            String file = determineFileName(entry.getKey(), files);
+            resources.put(AutoConstants.AUTO_SWAGGER_SHARDS_DIRECTORY + file, AutoJsonWriter.write(entry.getValue()));
+            manifest.append(escape(entry.getKey())).append('=').append(AutoConstants.AUTO_SWAGGER_SHARDS_LOCATION).append(file).append('\n');
+        }
+        resources.put(AutoConstants.AUTO_SWAGGER_SHARDS_MANIFEST_RESOURCE, manifest.toString());
+
+        return resources;
+    }
+
+    // ----------------------------------------------------------------
+
+    /**
+     * A file name safe on every file system and in jars: {@code Order API -> order-api.json}, numbered on clashes.
+     */
+    private static String determineFileName(String key, Set<String> files) {
+        String base = key.toLowerCase().replaceAll("[^a-z0-9._-]+", "-").replaceAll("^[-.]+|-+$", "");
+        if (base.isEmpty()) {
+            base = "shard";
+        }
+
+        String file = base;
+        for (int i = 1; !files.add(file); i++) {
+            file = base + "-" + i;
+        }
+
+        return file + ".json";
+    }
+
+    /**
+     * Escape a {@link java.util.Properties} key: separators, comment markers and non-ASCII characters.
+     */
+    private static String escape(String key) {
+        StringBuilder escaped = new StringBuilder(key.length() + 8);
+        for (char c : key.toCharArray()) {
+            if (' ' == c || ':' == c || '=' == c || '#' == c || '!' == c || '\\' == c) {
+                escaped.append('\\').append(c);
+            } else if (c < 0x20 || c > 0x7e) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            } else {
+                escaped.append(c);
+            }
+        }
+
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger;
+
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.processor.AutoSwaggerProcessor;
+import io.swagger.annotations.ApiModelProperty;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * {@code AutoCompilation}
+ * Compiles in memory sources with javac and a fresh {@link AutoSwaggerProcessor}, against the processor and the
+ * swagger annotations; the classes and resources are written to a temporary directory.
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+public final class AutoCompilation {
+
+    private final Map<String, String> sources = new LinkedHashMap<>();
+    private final Map<String, String> generated = new LinkedHashMap<>();
+    private final List<String> options = new ArrayList<>();
+
+    private boolean success;
+    private Path output;
+    private List<Diagnostic<? extends JavaFileObject>> diagnostics;
+    private URLClassLoader classLoader;
+
+    private AutoCompilation() {
+    }
+
+    public static AutoCompilation create() {
+        return new AutoCompilation();
+    }
+
+    /**
+     * Add a source.
+     *
+     * @param qualifiedName the qualified name of the top level type
+     * @param lines         the source lines
+     * @return this
+     */
+    public AutoCompilation source(String qualifiedName, String... lines) {
+        this.sources.put(qualifiedName, String.join("\n", lines));
+
+        return this;
+    }
+
+    /**
+     * Add a source generated in the first round, processed by a later one.
+     *
+     * @param qualifiedName the qualified name of the top level type
+     * @param lines         the source lines
+     * @return this
+     */
+    public AutoCompilation generated(String qualifiedName, String... lines) {
+        this.generated.put(qualifiedName, String.join("\n", lines));
+
+        return this;
+    }
+
+    /**
+     * Add a processor option: {@code -A<key>=<value>}.
+     */
+    public AutoCompilation option(String key, String value) {
+        this.options.add("-A" + key + "=" + value);
+
+        return this;
+    }
+
+    public AutoCompilation compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> collector = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(collector, null, StandardCharsets.UTF_8)) {
+            this.output = Files.createTempDirectory("auto-swagger-test");
+
+            List<String> arguments = new ArrayList<>(this.options);
+            arguments.addAll(Arrays.asList(
+                    "-d", this.output.toString(),
+                    "-classpath", determineLocation(AutoApiModel.class) + File.pathSeparator + determineLocation(ApiModelProperty.class)
+            ));
+
+            List<JavaFileObject> units = this.sources.entrySet().stream()
+                    .map(entry -> new Source(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toList());
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, collector, arguments, null, units);
+            List<Processor> processors = new ArrayList<>();
+            if (!this.generated.isEmpty()) {
+                // First: the annotations claimed by auto-swagger would not reach it
+                processors.add(new Generator(this.generated));
+            }
+            processors.add(new AutoSwaggerProcessor());
+            task.setProcessors(processors);
+            this.success = task.call();
+            this.diagnostics = collector.getDiagnostics();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return this;
+    }
+
+    // ----------------------------------------------------------------
+
+    public boolean success() {
+        return this.success;
+    }
+
+    public Path output() {
+        return this.output;
+    }
+
+    public String diagnostics() {
+        return this.diagnostics.stream()
+                .map(diagnostic -> diagnostic.getKind() + ": " + diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Load a compiled class, the annotation types are shared with the test.
+     *
+     * @param className the binary name
+     * @return the class
+     */
+    public Class<?> load(String className) {
+        try {
+            if (null == this.classLoader) {
+                this.classLoader = new URLClassLoader(new URL[]{this.output.toUri().toURL()}, AutoCompilation.class.getClassLoader());
+            }
+
+            return this.classLoader.loadClass(className);
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read a generated resource or source.
+     *
+     * @param name the name, relative to the class output
+     * @return the content, {@code null} if not generated
+     */
+    public String resource(String name) {
+        Path path = this.output.resolve(name);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ----------------------------------------------------------------
+
+    private static String determineLocation(Class<?> type) {
+        try {
+            return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Writes the generated sources in the first round.
+     */
+    @SupportedAnnotationTypes("*")
+    private static class Generator extends AbstractProcessor {
+
+        private final Map<String, String> sources;
+        private boolean generated;
+
+        Generator(Map<String, String> sources) {
+            this.sources = sources;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (this.generated) {
+                return false;
+            }
+
+            this.generated = true;
+            for (Map.Entry<String, String> entry : this.sources.entrySet()) {
+                try (Writer writer = this.processingEnv.getFiler().createSourceFile(entry.getKey()).openWriter()) {
+                    writer.write(entry.getValue());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            return false;
+        }
+    }
+
+    private static class Source extends SimpleJavaFileObject {
+
+        private final String content;
+
+        Source(String qualifiedName, String content) {
+            super(URI.create("string:///" + qualifiedName.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return this.content;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.swagger.annotations.ApiModelProperty;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoAnnotationMatcherTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoAnnotationMatcherTest {
+
+    @Test
+    void testMatch() throws Exception {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source("com.foo.ApiModelProperty",
+                        "package com.foo;",
+                        "import java.lang.annotation.*;",
+                        "@Retention(RetentionPolicy.RUNTIME)",
+                        "public @interface ApiModelProperty {",
+                        "    String value() default \"\";",
+                        "}")
+                .source("com.foo.AutoApiModelProperty",
+                        "package com.foo;",
+                        "import java.lang.annotation.*;",
+                        "@Retention(RetentionPolicy.RUNTIME)",
+                        "public @interface AutoApiModelProperty {",
+                        "    String value() default \"\";",
+                        "}")
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;",
+                        "public class OrderDto {",
+                        // Same simple name, other package: not a hand-written @ApiModelProperty
+                        "    @AutoApiModelProperty(\"Order id\") @com.foo.ApiModelProperty(\"foo\") private Long id;",
+                        // Fully qualified: hand-written, kept as is
+                        "    @AutoApiModelProperty(\"proxy\") @io.swagger.annotations.ApiModelProperty(\"hand-written\") private String note;",
+                        // Fully qualified proxy
+                        "    @io.github.photowey.auto.swagger.annotation.AutoApiModelProperty(\"Name\") private String name;",
+                        // Same simple name, other package: not a proxy
+                        "    @com.foo.AutoApiModelProperty(\"foo\") private String plain;",
+                        "}")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "true")
+                .compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        Class<?> order = compilation.load("demo.OrderDto");
+
+        Field id = order.getDeclaredField("id");
+        assertEquals("Order id", id.getAnnotation(ApiModelProperty.class).value());
+        assertTrue(id.isAnnotationPresent(this.annotationType(compilation, "com.foo.ApiModelProperty")));
+        assertNull(id.getAnnotation(AutoApiModelProperty.class));
+
+        Field note = order.getDeclaredField("note");
+        assertEquals("hand-written", note.getAnnotation(ApiModelProperty.class).value());
+        assertNull(note.getAnnotation(AutoApiModelProperty.class));
+
+        Field name = order.getDeclaredField("name");
+        assertEquals("Name", name.getAnnotation(ApiModelProperty.class).value());
+        assertNull(name.getAnnotation(AutoApiModelProperty.class));
+
+        Field plain = order.getDeclaredField("plain");
+        assertNull(plain.getAnnotation(ApiModelProperty.class));
+        assertNotNull(plain.getAnnotation(this.annotationType(compilation, "com.foo.AutoApiModelProperty")));
+    }
+
+    // ----------------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends Annotation> annotationType(AutoCompilation compilation, String className) {
+        return (Class<? extends Annotation>) compilation.load(className);
+    }
+}
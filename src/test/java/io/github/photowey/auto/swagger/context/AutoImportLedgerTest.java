@@ -0,0 +1,140 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.context;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoImportLedgerTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoImportLedgerTest {
+
+    @Test
+    void testImport() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApiModel(\"Order\")",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"Order id\") private Long id;",
+                        "    @AutoApiModelProperty(\"Note\") private String note;",
+                        "}")
+                // Already imported: single-type and on demand
+                .source("demo.UserDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "import io.swagger.annotations.ApiModelProperty;",
+                        "import io.swagger.annotations.*;",
+                        "@AutoApiModel(\"User\")",
+                        "public class UserDto {",
+                        "    @AutoApiModelProperty(\"Name\") private String name;",
+                        "}"));
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertEquals("Order", order.getAnnotation(ApiModel.class).value());
+        assertEquals("Order id", order.getDeclaredField("id").getAnnotation(ApiModelProperty.class).value());
+        assertEquals("Note", order.getDeclaredField("note").getAnnotation(ApiModelProperty.class).value());
+        assertEquals("Name", compilation.load("demo.UserDto").getDeclaredField("name").getAnnotation(ApiModelProperty.class).value());
+    }
+
+    @Test
+    void testSimpleNameTaken() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("com.foo.ApiModelProperty",
+                        "package com.foo;",
+                        "import java.lang.annotation.*;",
+                        "@Retention(RetentionPolicy.RUNTIME)",
+                        "public @interface ApiModelProperty {",
+                        "    String value() default \"\";",
+                        "}")
+                .source("com.foo.ApiModel",
+                        "package com.foo;",
+                        "public class ApiModel {",
+                        "}")
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "import com.foo.ApiModelProperty;",
+                        "import com.foo.*;",
+                        "@AutoApiModel(\"Order\")",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"Order id\") private Long id;",
+                        "    @ApiModelProperty(\"foo\") private String note;",
+                        "    private ApiModel model;",
+                        "}"));
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertEquals("Order", order.getAnnotation(ApiModel.class).value());
+        assertEquals("Order id", order.getDeclaredField("id").getAnnotation(ApiModelProperty.class).value());
+        assertEquals("com.foo.ApiModel", order.getDeclaredField("model").getType().getName());
+
+        // The user's annotation still resolves to com.foo
+        Field note = order.getDeclaredField("note");
+        assertNotNull(note.getAnnotation(ApiModelProperty.class));
+        assertTrue(note.isAnnotationPresent(this.annotationType(compilation, "com.foo.ApiModelProperty")));
+    }
+
+    @Test
+    void testSimpleNameDeclared() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.ApiModel",
+                        "package demo;",
+                        "public class ApiModel {",
+                        "}")
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApiModel(\"Order\")",
+                        "public class OrderDto {",
+                        "    private ApiModel model;",
+                        "}"));
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertEquals("Order", order.getAnnotation(ApiModel.class).value());
+        assertEquals("demo.ApiModel", order.getDeclaredField("model").getType().getName());
+        assertNull(order.getDeclaredField("model").getAnnotation(ApiModel.class));
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoCompilation compile(AutoCompilation compilation) {
+        compilation.option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "true").compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        return compilation;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends java.lang.annotation.Annotation> annotationType(AutoCompilation compilation, String className) {
+        return (Class<? extends java.lang.annotation.Annotation>) compilation.load(className);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.generator;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoRegistryGeneratorTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoRegistryGeneratorTest {
+
+    @Test
+    void testRegistry() throws Exception {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "import io.swagger.annotations.ApiModelProperty;",
+                        "@AutoApiModel",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(value = \"Order id\", required = true, position = 1) private Long id;",
+                        "    @AutoApiModelProperty(\"proxy\") @ApiModelProperty(\"hand-written\") private String note;",
+                        "    private String plain;",
+                        "    private static String CONSTANT;",
+                        "}")
+                .source("demo.UserDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "public class UserDto {",
+                        "    @AutoApiModelProperty(\"Name\") private String name;",
+                        "    private String plain;",
+                        "}")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_CONFIG_KEY, "true")
+                .compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{compilation.output().toUri().toURL()}, this.getClass().getClassLoader())) {
+            Class<?> registry = loader.loadClass("demo.AutoSwaggerRegistry");
+            Method indexOf = registry.getMethod("indexOf", String.class, String.class);
+
+            int id = (int) indexOf.invoke(null, "demo.OrderDto", "id");
+            assertEquals("Order id", registry.getMethod("description", int.class).invoke(null, id));
+            assertEquals(true, registry.getMethod("required", int.class).invoke(null, id));
+            assertEquals(1, registry.getMethod("position", int.class).invoke(null, id));
+
+            int note = (int) indexOf.invoke(null, "demo.OrderDto", "note");
+            assertEquals("hand-written", registry.getMethod("description", int.class).invoke(null, note));
+
+            // Every field of an @AutoApiModel class: the default metadata
+            int plain = (int) indexOf.invoke(null, "demo.OrderDto", "plain");
+            assertTrue(plain >= 0);
+            assertEquals(null, registry.getMethod("description", int.class).invoke(null, plain));
+            assertEquals(false, registry.getMethod("required", int.class).invoke(null, plain));
+
+            assertEquals(-1, indexOf.invoke(null, "demo.OrderDto", "CONSTANT"));
+            assertTrue((int) indexOf.invoke(null, "demo.UserDto", "name") >= 0);
+            assertEquals(-1, indexOf.invoke(null, "demo.UserDto", "plain"));
+            assertEquals(4, registry.getMethod("size").invoke(null));
+        }
+    }
+
+    @Test
+    void testRounds() throws Exception {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source("demo.order.OrderDto",
+                        "package demo.order;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"Order id\") private Long id;",
+                        "}")
+                // Generated by another processor, seen in the second round
+                .generated("demo.user.UserDto",
+                        "package demo.user;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "public class UserDto {",
+                        "    @AutoApiModelProperty(\"Name\") private String name;",
+                        "}")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_REGISTRY_CONFIG_KEY, "true")
+                .compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        // The common package of both rounds
+        Class<?> registry = compilation.load("demo.AutoSwaggerRegistry");
+        Method indexOf = registry.getMethod("indexOf", String.class, String.class);
+        assertEquals("Order id", registry.getMethod("description", int.class).invoke(null, indexOf.invoke(null, "demo.order.OrderDto", "id")));
+        assertEquals("Name", registry.getMethod("description", int.class).invoke(null, indexOf.invoke(null, "demo.user.UserDto", "name")));
+        assertEquals(2, registry.getMethod("size").invoke(null));
+    }
+}
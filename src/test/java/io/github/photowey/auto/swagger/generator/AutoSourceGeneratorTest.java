@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.generator;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoSourceGeneratorTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoSourceGeneratorTest {
+
+    @Test
+    void testInaccessibleFieldTypes() {
+        AutoCompilation compilation = this.compile(
+                "demo.OrderDto",
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "@AutoApiModel",
+                "public class OrderDto {",
+                "    @AutoApiModelProperty(\"status\") private Status status;",
+                "    @AutoApiModelProperty(\"lines\") private Line[] lines;",
+                "    @AutoApiModelProperty(\"total\") private Total total;",
+                "    @AutoApiModelProperty(\"count\") private int count;",
+                "    private enum Status { NEW }",
+                "    private static class Line { }",
+                "    private static class Total extends Number implements java.io.Serializable {",
+                "        public int intValue() { return 0; }",
+                "        public long longValue() { return 0; }",
+                "        public float floatValue() { return 0; }",
+                "        public double doubleValue() { return 0; }",
+                "    }",
+                "}"
+        );
+
+        String mixin = compilation.resource("demo/OrderDtoSwaggerMixin.java");
+        assertNotNull(mixin, compilation.diagnostics());
+        assertTrue(mixin.contains("private java.lang.Enum status;"), mixin);
+        assertTrue(mixin.contains("private java.lang.Object[] lines;"), mixin);
+        assertTrue(mixin.contains("private java.lang.Number total;"), mixin);
+        assertTrue(mixin.contains("private int count;"), mixin);
+    }
+
+    @Test
+    void testNoControllerMixin() {
+        AutoCompilation compilation = this.compile(
+                "demo.OrderController",
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "@AutoApi(tags = \"orders\")",
+                "public class OrderController {",
+                "}"
+        );
+
+        assertNull(compilation.resource("demo/OrderControllerSwaggerMixin.java"));
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoCompilation compile(String qualifiedName, String... lines) {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source(qualifiedName, lines)
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "true")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_MODE_CONFIG_KEY, AutoConstants.AUTO_SWAGGER_ANNOTATION_MODE_SOURCE)
+                .compile();
+
+        // The mixins compile in the next round
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        return compilation;
+    }
+}
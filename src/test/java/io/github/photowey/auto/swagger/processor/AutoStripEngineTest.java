@@ -0,0 +1,121 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.processor;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.annotation.AutoApi;
+import io.github.photowey.auto.swagger.annotation.AutoApiModel;
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoStripEngineTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoStripEngineTest {
+
+    private static final String PROXY_PACKAGE = "io/github/photowey/auto/swagger/annotation";
+    private static final String SWAGGER_PACKAGE = "io/swagger/annotations";
+
+    @Test
+    void testStripProxy() throws Exception {
+        AutoCompilation compilation = this.compile(AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_PROXY);
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertFalse(this.read(compilation, "demo/OrderDto.class").contains(PROXY_PACKAGE));
+        assertNull(order.getAnnotation(AutoApiModel.class));
+        assertNull(order.getAnnotation(ApiModel.class));
+        assertNull(order.getDeclaredField("id").getAnnotation(AutoApiModelProperty.class));
+        assertNull(order.getDeclaredField("id").getAnnotation(ApiModelProperty.class));
+        // Hand-written: kept
+        assertEquals("hand-written", order.getDeclaredField("note").getAnnotation(ApiModelProperty.class).value());
+
+        Class<?> controller = compilation.load("demo.OrderController");
+        assertFalse(this.read(compilation, "demo/OrderController.class").contains(PROXY_PACKAGE));
+        assertNull(controller.getAnnotation(AutoApi.class));
+        assertNull(controller.getAnnotation(Api.class));
+    }
+
+    @Test
+    void testStripSwagger() throws Exception {
+        AutoCompilation compilation = this.compile(AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_SWAGGER);
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertFalse(this.read(compilation, "demo/OrderDto.class").contains(PROXY_PACKAGE));
+        assertFalse(this.read(compilation, "demo/OrderDto.class").contains(SWAGGER_PACKAGE));
+        assertNull(order.getDeclaredField("id").getAnnotation(AutoApiModelProperty.class));
+        assertNull(order.getDeclaredField("note").getAnnotation(ApiModelProperty.class));
+
+        // Fully qualified
+        Class<?> user = compilation.load("demo.UserController");
+        assertFalse(this.read(compilation, "demo/UserController.class").contains(SWAGGER_PACKAGE));
+        assertNull(user.getAnnotation(Api.class));
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoCompilation compile(String strip) {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.AutoApiModel;",
+                        "import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;",
+                        "import io.swagger.annotations.ApiModelProperty;",
+                        "@AutoApiModel(\"Order\")",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"Order id\") private Long id;",
+                        "    @ApiModelProperty(\"hand-written\") private String note;",
+                        "}")
+                .source("demo.OrderController",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApi(tags = \"orders\")",
+                        "public class OrderController {",
+                        "}")
+                .source("demo.UserController",
+                        "package demo;",
+                        "@io.swagger.annotations.Api(tags = \"users\")",
+                        "public class UserController {",
+                        "}")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "false")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_STRIP_CONFIG_KEY, strip)
+                .compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        return compilation;
+    }
+
+    private String read(AutoCompilation compilation, String name) throws IOException {
+        // The constant pool: latin-1 keeps every byte
+        return new String(Files.readAllBytes(compilation.output().resolve(name)), StandardCharsets.ISO_8859_1);
+    }
+}
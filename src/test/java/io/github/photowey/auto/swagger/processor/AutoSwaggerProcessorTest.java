@@ -0,0 +1,185 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.processor;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * {@code AutoSwaggerProcessorTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoSwaggerProcessorTest {
+
+    @Test
+    void testTreeMode() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.OrderController",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApi(tags = \"orders\")",
+                        "public class OrderController {",
+                        "}")
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApiModel(value = \"Order\", description = \"An order\")",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(value = \"Order id\", required = true, example = \"1\") private Long id;",
+                        "    private String note;",
+                        "}"));
+
+        Api api = compilation.load("demo.OrderController").getAnnotation(Api.class);
+        assertNotNull(api);
+        assertEquals("orders", api.tags()[0]);
+
+        Class<?> model = compilation.load("demo.OrderDto");
+        ApiModel apiModel = model.getAnnotation(ApiModel.class);
+        assertNotNull(apiModel);
+        assertEquals("Order", apiModel.value());
+        assertEquals("An order", apiModel.description());
+
+        ApiModelProperty id = model.getDeclaredField("id").getAnnotation(ApiModelProperty.class);
+        assertNotNull(id);
+        assertEquals("Order id", id.value());
+        assertTrue(id.required());
+        assertEquals("1", id.example());
+        // Every field of an @AutoApiModel class
+        assertNotNull(model.getDeclaredField("note").getAnnotation(ApiModelProperty.class));
+    }
+
+    @Test
+    void testInterface() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.OrderApi",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApi(tags = \"orders\")",
+                        "public interface OrderApi {",
+                        "    String find(long id);",
+                        "}"));
+
+        Api api = compilation.load("demo.OrderApi").getAnnotation(Api.class);
+        assertNotNull(api);
+        assertEquals("orders", api.tags()[0]);
+    }
+
+    @Test
+    void testInterfaceConstant() throws Exception {
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.OrderStatus",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApiModel(\"OrderStatus\")",
+                        "public interface OrderStatus {",
+                        "    String NEW = \"NEW\";",
+                        "    @AutoApiModelProperty(\"Paid\") String PAID = \"PAID\";",
+                        "}"));
+
+        Class<?> status = compilation.load("demo.OrderStatus");
+        assertEquals("OrderStatus", status.getAnnotation(ApiModel.class).value());
+        assertNull(status.getDeclaredField("NEW").getAnnotation(ApiModelProperty.class));
+    }
+
+    @Test
+    void testRecord() throws Exception {
+        assumeTrue(determineJavaVersion() >= 16, "records: JDK 16+");
+
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.Point",
+                        "package demo;",
+                        "public record Point(int x, int y) {}")
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"Order id\") private Long id;",
+                        "}"));
+
+        assertNotNull(compilation.load("demo.OrderDto").getDeclaredField("id").getAnnotation(ApiModelProperty.class));
+    }
+
+    @Test
+    void testRounds() throws Exception {
+        // Not repeatable: a second @ApiModelProperty / @Api would not compile
+        AutoCompilation compilation = this.compile(AutoCompilation.create()
+                .source("demo.OrderDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "import io.swagger.annotations.ApiModelProperty;",
+                        "@AutoApiModel(\"Order\")",
+                        "public class OrderDto {",
+                        "    @AutoApiModelProperty(\"proxy\") @ApiModelProperty(\"hand-written\") private String note;",
+                        "    private Long id;",
+                        "}")
+                .source("demo.OrderController",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApi(tags = \"proxy\") @io.swagger.annotations.Api(tags = \"hand-written\")",
+                        "public class OrderController {",
+                        "}")
+                .generated("demo.UserDto",
+                        "package demo;",
+                        "import io.github.photowey.auto.swagger.annotation.*;",
+                        "@AutoApiModel(\"User\")",
+                        "public class UserDto {",
+                        "    @AutoApiModelProperty(\"Name\") private String name;",
+                        "    @AutoApiModelProperty(\"proxy\") @io.swagger.annotations.ApiModelProperty(\"hand-written\") private String email;",
+                        "    private OrderDto order;",
+                        "}"));
+
+        Class<?> order = compilation.load("demo.OrderDto");
+        assertEquals("Order", order.getAnnotation(ApiModel.class).value());
+        assertEquals("hand-written", order.getDeclaredField("note").getAnnotation(ApiModelProperty.class).value());
+        assertNotNull(order.getDeclaredField("id").getAnnotation(ApiModelProperty.class));
+        assertEquals("hand-written", compilation.load("demo.OrderController").getAnnotation(Api.class).tags()[0]);
+
+        // Generated in the first round, processed in the second one
+        Class<?> user = compilation.load("demo.UserDto");
+        assertEquals("User", user.getAnnotation(ApiModel.class).value());
+        assertEquals("Name", user.getDeclaredField("name").getAnnotation(ApiModelProperty.class).value());
+        assertEquals("hand-written", user.getDeclaredField("email").getAnnotation(ApiModelProperty.class).value());
+        assertNotNull(user.getDeclaredField("order").getAnnotation(ApiModelProperty.class));
+    }
+
+    // ----------------------------------------------------------------
+
+    private AutoCompilation compile(AutoCompilation compilation) {
+        compilation.option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "true").compile();
+        assertTrue(compilation.success(), compilation.diagnostics());
+
+        return compilation;
+    }
+
+    private static int determineJavaVersion() {
+        String version = System.getProperty("java.specification.version");
+
+        return Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright © 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.photowey.auto.swagger.spec;
+
+import io.github.photowey.auto.swagger.AutoCompilation;
+import io.github.photowey.auto.swagger.constant.AutoConstants;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@code AutoModelDefinitionsTest}
+ *
+ * @author photowey
+ * @date 2026/10/18
+ * @since 1.0.0
+ */
+class AutoModelDefinitionsTest {
+
+    private static final String[] NOT_NULL = {
+            "package demo;",
+            "import java.lang.annotation.*;",
+            "@Target(ElementType.TYPE_USE) @Retention(RetentionPolicy.CLASS)",
+            "public @interface NotNull {}"
+    };
+
+    @Test
+    void testTypeUseAnnotatedPrimitive() {
+        String definitions = this.compile(
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "@AutoApiModel",
+                "public class OrderDto {",
+                "    @AutoApiModelProperty(\"count\") private @NotNull int count;",
+                "    @AutoApiModelProperty(\"paid\") private @NotNull boolean paid;",
+                "}"
+        );
+
+        assertTrue(definitions.contains("\"count\":{\"type\":\"integer\",\"format\":\"int32\",\"description\":\"count\"}"), definitions);
+        assertTrue(definitions.contains("\"paid\":{\"type\":\"boolean\",\"description\":\"paid\"}"), definitions);
+    }
+
+    @Test
+    void testTypeUseAnnotatedTypeArgument() {
+        String definitions = this.compile(
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "@AutoApiModel",
+                "public class OrderDto {",
+                "    @AutoApiModelProperty(\"items\") private java.util.List<@NotNull Item> items;",
+                "    @AutoApiModelProperty(\"annotated\") private Page<@NotNull Item> annotated;",
+                "    @AutoApiModelProperty(\"plain\") private Page<Item> plain;",
+                "    public static class Item { private String sku; }",
+                "    public static class Page<T> { private java.util.List<T> content; }",
+                "}"
+        );
+
+        assertTrue(definitions.contains("\"items\":{\"type\":\"array\",\"items\":{\"$ref\":\"#/definitions/Item\"}"), definitions);
+        assertTrue(definitions.contains("\"annotated\":{\"$ref\":\"#/definitions/Page\\u00abItem\\u00bb\""), definitions);
+        assertTrue(definitions.contains("\"plain\":{\"$ref\":\"#/definitions/Page\\u00abItem\\u00bb\""), definitions);
+        assertFalse(definitions.contains("demo.OrderDto.Page"), definitions);
+    }
+
+    @Test
+    void testNativeAnnotationTakesPrecedence() {
+        String definitions = this.compile(
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "import io.swagger.annotations.ApiModelProperty;",
+                "@AutoApiModel",
+                "public class OrderDto {",
+                "    @AutoApiModelProperty(value = \"proxy\", required = true)",
+                "    @ApiModelProperty(\"hand-written\")",
+                "    private String id;",
+                "}"
+        );
+
+        assertTrue(definitions.contains("\"id\":{\"type\":\"string\",\"description\":\"hand-written\"}"), definitions);
+        assertFalse(definitions.contains("proxy"), definitions);
+        assertFalse(definitions.contains("\"required\""), definitions);
+    }
+
+    @Test
+    void testTypedExample() {
+        String definitions = this.compile(
+                "package demo;",
+                "import io.github.photowey.auto.swagger.annotation.*;",
+                "@AutoApiModel",
+                "public class OrderDto {",
+                "    @AutoApiModelProperty(example = \"42\") private long id;",
+                "    @AutoApiModelProperty(example = \"9.90\") private java.math.BigDecimal amount;",
+                "    @AutoApiModelProperty(example = \"true\") private Boolean paid;",
+                "    @AutoApiModelProperty(example = \"n/a\") private Integer count;",
+                "    @AutoApiModelProperty(example = \"42\") private String code;",
+                "}"
+        );
+
+        assertTrue(definitions.contains("\"id\":{\"type\":\"integer\",\"format\":\"int64\",\"example\":42}"), definitions);
+        assertTrue(definitions.contains("\"amount\":{\"type\":\"number\",\"example\":9.90}"), definitions);
+        assertTrue(definitions.contains("\"paid\":{\"type\":\"boolean\",\"example\":true}"), definitions);
+        assertTrue(definitions.contains("\"count\":{\"type\":\"integer\",\"format\":\"int32\",\"example\":\"n/a\"}"), definitions);
+        assertTrue(definitions.contains("\"code\":{\"type\":\"string\",\"example\":\"42\"}"), definitions);
+    }
+
+    // ----------------------------------------------------------------
+
+    private String compile(String... lines) {
+        AutoCompilation compilation = AutoCompilation.create()
+                .source("demo.NotNull", NOT_NULL)
+                .source("demo.OrderDto", lines)
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_ENABLED_CONFIG_KEY, "true")
+                .option(AutoConstants.AUTO_SWAGGER_ANNOTATION_DEFINITIONS_CONFIG_KEY, "true")
+                .compile();
+
+        assertTrue(compilation.success(), compilation.diagnostics());
+        String definitions = compilation.resource(AutoConstants.AUTO_SWAGGER_DEFINITIONS_RESOURCE);
+        assertNotNull(definitions, compilation.diagnostics());
+
+        // Compact: one line, no space after the colons
+        return definitions.replaceAll("\\n\\s*", "").replace("\": ", "\":");
+    }
+}
@@ -0,0 +1,12 @@
+package demo;
+
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+
+public class OrderDto {
+
+    @AutoApiModelProperty(value = "Order id", example = "1")
+    private Long id;
+
+    @AutoApiModelProperty(value = "Order amount", example = "9.9")
+    private String amount;
+}
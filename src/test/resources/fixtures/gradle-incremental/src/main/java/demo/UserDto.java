@@ -0,0 +1,12 @@
+package demo;
+
+import io.github.photowey.auto.swagger.annotation.AutoApiModelProperty;
+
+public class UserDto {
+
+    @AutoApiModelProperty(value = "User id", example = "1")
+    private Long id;
+
+    @AutoApiModelProperty(value = "User name", example = "photowey")
+    private String name;
+}
@@ -0,0 +1,36 @@
+#!/usr/bin/env bash
+#
+# Compiles the fixture, edits OrderDto and compiles again.
+# Passes when the processor applied @ApiModelProperty and OrderDto.class is the only recompiled class.
+
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+GRADLE="${GRADLE:-gradle}"
+CLASSES=build/classes/java/main/demo
+ORDER=src/main/java/demo/OrderDto.java
+
+$GRADLE -q clean compileJava "$@"
+
+if ! grep -qa 'Lio/swagger/annotations/ApiModelProperty;' "$CLASSES/OrderDto.class"; then
+    echo "Expected OrderDto.class to carry @ApiModelProperty: is the processor enabled?" >&2
+    exit 1
+fi
+
+cp "$ORDER" "$ORDER.bak"
+trap 'mv "$ORDER.bak" "$ORDER"' EXIT
+
+sleep 1
+touch build/.marker
+sed -i.tmp 's/Order amount/Order total amount/' "$ORDER" && rm -f "$ORDER.tmp"
+
+$GRADLE -q compileJava "$@"
+
+RECOMPILED="$(find "$CLASSES" -name '*.class' -newer build/.marker -exec basename {} \; | sort | tr '\n' ' ')"
+echo "Recompiled: ${RECOMPILED}"
+
+if [ "${RECOMPILED}" != "OrderDto.class " ]; then
+    echo "Expected only OrderDto.class to be recompiled" >&2
+    exit 1
+fi